@@ -0,0 +1,111 @@
+package bakeit.club.tictactoe.benchmarks;
+
+import bakeit.club.tictactoe.game.Board;
+import bakeit.club.tictactoe.game.BoardState;
+import bakeit.club.tictactoe.game.GameStatus;
+import bakeit.club.tictactoe.game.Marker;
+import bakeit.club.tictactoe.game.Position;
+import bakeit.club.tictactoe.game.Rules;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks of the board operations: placing markers, taking board snapshots and detecting the
+ * end of the game.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BoardBenchmark {
+
+  /**
+   * A drawn game using all nine cells.
+   */
+  private static final Position[] MOVES = {
+      Position.of(1, 1), Position.of(0, 1), Position.of(0, 0),
+      Position.of(2, 2), Position.of(1, 0), Position.of(1, 2),
+      Position.of(2, 1), Position.of(2, 0), Position.of(0, 2)
+  };
+
+  private final Marker[] markers = new Marker[9];
+  private Board fullBoard;
+  private int[] packedPositions;
+  private int next;
+  private int nextMove;
+
+  @Setup
+  public void setUp() {
+    fullBoard = new Board();
+    for (int i = 0; i < MOVES.length; i++) {
+      Marker marker = i % 2 == 0 ? Marker.X : Marker.O;
+      fullBoard.placeMarker(MOVES[i], marker);
+      markers[MOVES[i].index()] = marker;
+    }
+
+    packedPositions = new int[MOVES.length + 1];
+    BoardState state = BoardState.empty();
+    for (int i = 0; i < MOVES.length; i++) {
+      packedPositions[i] = state.packed();
+      state = state.withMarker(MOVES[i], markers[MOVES[i].index()]);
+    }
+    packedPositions[MOVES.length] = state.packed();
+  }
+
+  /**
+   * Plays a whole game on a new board, the status is updated on every placement.
+   */
+  @Benchmark
+  public GameStatus placeMarker() {
+    Board board = new Board();
+    GameStatus status = GameStatus.IN_PROGRESS;
+    for (int i = 0; i < MOVES.length; i++) {
+      status = board.placeMarker(MOVES[i], i % 2 == 0 ? Marker.X : Marker.O);
+    }
+    return status;
+  }
+
+  @Benchmark
+  public BoardState boardStateOfBoard() {
+    return BoardState.of(fullBoard);
+  }
+
+  @Benchmark
+  public BoardState boardStateOfMarkers() {
+    return BoardState.of(markers);
+  }
+
+  /**
+   * Detects the status after every move of a game by checking only the lines through the placed
+   * marker, as it is done by {@link Board#placeMarker(Position, Marker)} on every move.
+   */
+  @Benchmark
+  public void statusAfterMove(Blackhole blackhole) {
+    int move = nextMove;
+    nextMove = nextMove == MOVES.length - 1 ? 0 : nextMove + 1;
+    blackhole.consume(Rules.statusAfterMove(packedPositions[move + 1], MOVES[move].index()));
+  }
+
+  /**
+   * Detects the status of the positions of a game from scratch, as it is done for the positions
+   * received over the network.
+   */
+  @Benchmark
+  public void statusFromScratch(Blackhole blackhole) {
+    int packed = packedPositions[next];
+    next = next == packedPositions.length - 1 ? 0 : next + 1;
+    blackhole.consume(Rules.status(packed));
+  }
+}
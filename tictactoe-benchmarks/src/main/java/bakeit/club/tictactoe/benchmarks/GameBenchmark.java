@@ -0,0 +1,109 @@
+package bakeit.club.tictactoe.benchmarks;
+
+import bakeit.club.tictactoe.game.BoardState;
+import bakeit.club.tictactoe.game.Game;
+import bakeit.club.tictactoe.game.GameRecord;
+import bakeit.club.tictactoe.game.Player;
+import bakeit.club.tictactoe.game.PlayerGameInfo;
+import bakeit.club.tictactoe.game.PlayersResult;
+import bakeit.club.tictactoe.game.Position;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks of whole games played in memory by scripted players, so the numbers cover the game
+ * loop itself without any I/O.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class GameBenchmark {
+
+  private final ScriptedPlayer drawX = new ScriptedPlayer("x",
+      Position.of(1, 1), Position.of(0, 0), Position.of(1, 0), Position.of(2, 1),
+      Position.of(0, 2));
+  private final ScriptedPlayer drawO = new ScriptedPlayer("o",
+      Position.of(0, 1), Position.of(1, 2), Position.of(2, 0), Position.of(2, 2));
+  private final ScriptedPlayer winX = new ScriptedPlayer("x",
+      Position.of(1, 1), Position.of(0, 0), Position.of(2, 2));
+  private final ScriptedPlayer rejectedO = new ScriptedPlayer("o",
+      Position.of(0, 1), Position.of(1, 1), Position.of(0, 2));
+
+  @Benchmark
+  public GameRecord playDraw() {
+    return play(drawX, drawO);
+  }
+
+  /**
+   * A won game with an invalid move which has to be repeated.
+   */
+  @Benchmark
+  public GameRecord playWinWithInvalidMove() {
+    return play(winX, rejectedO);
+  }
+
+  private static GameRecord play(ScriptedPlayer player1, ScriptedPlayer player2) {
+    player1.reset();
+    player2.reset();
+    Game game = new Game(player1, player2);
+    game.play();
+    return game.getRecord();
+  }
+
+  private static final class ScriptedPlayer implements Player {
+
+    private final String name;
+    private final Position[] moves;
+    private int next;
+
+    ScriptedPlayer(String name, Position... moves) {
+      this.name = name;
+      this.moves = moves;
+    }
+
+    void reset() {
+      next = 0;
+    }
+
+    @Override
+    public String getName() {
+      return name;
+    }
+
+    @Override
+    public void gameStarted(PlayerGameInfo gameInfo) {
+    }
+
+    @Override
+    public void waitOpponentsMove(BoardState boardState) {
+    }
+
+    @Override
+    public Position placeMarker(BoardState boardState) {
+      return moves[next++];
+    }
+
+    @Override
+    public void placementAccepted(Position position, BoardState boardState) {
+    }
+
+    @Override
+    public void placementRejected(Position position, String reason) {
+    }
+
+    @Override
+    public void gameEnded(BoardState boardState, PlayersResult result) {
+    }
+  }
+}
@@ -0,0 +1,115 @@
+package bakeit.club.tictactoe.benchmarks;
+
+import bakeit.club.tictactoe.game.BoardState;
+import bakeit.club.tictactoe.game.Marker;
+import bakeit.club.tictactoe.game.PlayersResult;
+import bakeit.club.tictactoe.game.Position;
+import bakeit.club.tictactoe.net.GameEnded;
+import bakeit.club.tictactoe.net.GameStarted;
+import bakeit.club.tictactoe.net.InvalidMove;
+import bakeit.club.tictactoe.net.JoinGame;
+import bakeit.club.tictactoe.net.MakeMove;
+import bakeit.club.tictactoe.net.Message;
+import bakeit.club.tictactoe.net.MessageReader;
+import bakeit.club.tictactoe.net.MessageWriter;
+import bakeit.club.tictactoe.net.Move;
+import bakeit.club.tictactoe.net.MoveAccepted;
+import bakeit.club.tictactoe.net.WaitOpponentsMove;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks of the serialization and deserialization of every message type.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MessageBenchmark {
+
+  private static final BoardState BOARD = BoardState.of(
+      Marker.X, Marker.O, Marker.EMPTY,
+      Marker.EMPTY, Marker.X, Marker.EMPTY,
+      Marker.O, Marker.EMPTY, Marker.EMPTY
+  );
+
+  @Param({
+      "GameStarted",
+      "JoinGame",
+      "MakeMove",
+      "Move",
+      "MoveAccepted",
+      "GameEnded",
+      "InvalidMove",
+      "WaitOpponentsMove"
+  })
+  public String type;
+
+  private final MessageWriter writer = new MessageWriter();
+  private final MessageReader reader = new MessageReader();
+  private final ByteBuffer frame = ByteBuffer.allocateDirect(256);
+  private final ByteBuffer encoded = ByteBuffer.allocateDirect(256);
+  private Message message;
+  private byte[] data;
+
+  @Setup
+  public void setUp() {
+    message = switch (type) {
+      case "GameStarted" -> new GameStarted(Marker.X, "opponent");
+      case "JoinGame" -> new JoinGame("player");
+      case "MakeMove" -> new MakeMove(0x1234_5678_9ABC_DEF0L, BOARD);
+      case "Move" -> new Move(Position.of(2, 2), 0x1234_5678_9ABC_DEF0L);
+      case "MoveAccepted" -> new MoveAccepted(Position.of(2, 2), BOARD);
+      case "GameEnded" -> new GameEnded(PlayersResult.VICTORY, BOARD);
+      case "InvalidMove" -> new InvalidMove(Position.of(1, 1), Marker.O,
+          "Invalid move detected for the player playing with 'O': "
+              + "Position [1, 1] is already occupied.");
+      case "WaitOpponentsMove" -> new WaitOpponentsMove(BOARD);
+      default -> throw new IllegalArgumentException("Unknown message type: " + type);
+    };
+    data = writer.write(message);
+    writer.encode(message, encoded);
+    encoded.flip();
+  }
+
+  @Benchmark
+  public byte[] write() {
+    return writer.write(message);
+  }
+
+  /**
+   * Encodes the frame into a reused direct buffer as it is done before writing to a socket.
+   */
+  @Benchmark
+  public int encode() {
+    frame.clear();
+    return writer.encode(message, frame);
+  }
+
+  @Benchmark
+  public Message read() {
+    return reader.read(data);
+  }
+
+  /**
+   * Decodes the frame in place from a direct buffer as it is done after reading from a socket.
+   */
+  @Benchmark
+  public Message decode() {
+    encoded.rewind();
+    return reader.decode(encoded);
+  }
+}
@@ -9,13 +9,14 @@ import bakeit.club.tictactoe.net.JoinGame;
 import bakeit.club.tictactoe.net.MakeMove;
 import bakeit.club.tictactoe.net.GameStarted;
 import bakeit.club.tictactoe.net.Message;
+import bakeit.club.tictactoe.net.MessageInput;
+import bakeit.club.tictactoe.net.MessageOutput;
 import bakeit.club.tictactoe.net.MessageReader;
 import bakeit.club.tictactoe.net.MessageWriter;
 import bakeit.club.tictactoe.net.Move;
 import bakeit.club.tictactoe.net.MoveAccepted;
+import bakeit.club.tictactoe.net.ProtocolVersion;
 import bakeit.club.tictactoe.net.WaitOpponentsMove;
-import java.io.DataInputStream;
-import java.io.DataOutputStream;
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.net.InetSocketAddress;
@@ -31,6 +32,11 @@ import java.util.concurrent.atomic.AtomicReference;
  * with the game server and translates API calls between the game server and the client's player
  * to/from the network messages.</p>
  * <p>
+ * The client offers the {@link ProtocolVersion#LATEST} protocol version when joining a game. With
+ * the {@link ProtocolVersion#V3} the server sends only the board updates and the message reader
+ * of the connection maintains the board locally.
+ * </p>
+ * <p>
  * Closing the {@code ClientPlayer} will close also the network connection and free the allocated
  * resources.
  * </p>
@@ -44,8 +50,8 @@ public class ClientPlayer implements AutoCloseable {
 
   private final AtomicReference<Socket> socketReference = new AtomicReference<>();
 
-  private DataOutputStream dataOutputStream;
-  private DataInputStream dataInputStream;
+  private MessageOutput messageOutput;
+  private MessageInput messageInput;
 
   /**
    * Creates a new instance of the network client for the player application.
@@ -70,9 +76,11 @@ public class ClientPlayer implements AutoCloseable {
     connectToServer();
 
     System.out.println("Joining a game.");
-    writeMessage(new JoinGame(delegate.getName()));
+    writeMessage(new JoinGame(delegate.getName(), ProtocolVersion.LATEST));
     System.out.println("Waiting for the game to start.");
     GameStarted gameStarted = readGameStarted();
+    messageWriter.setVersion(gameStarted.protocolVersion());
+    messageReader.setVersion(gameStarted.protocolVersion());
     System.out.println(
         "Game started. You will play with the marker '" + gameStarted.assignedMarker() + "'.");
     System.out.println("Your opponent is: " + gameStarted.opponentName() + ".");
@@ -118,8 +126,8 @@ public class ClientPlayer implements AutoCloseable {
     System.out.println("Connected!");
 
     try {
-      this.dataOutputStream = new DataOutputStream(socket.getOutputStream());
-      this.dataInputStream = new DataInputStream(socket.getInputStream());
+      this.messageOutput = new MessageOutput(socket.getOutputStream(), messageWriter);
+      this.messageInput = new MessageInput(socket.getInputStream(), messageReader);
     } catch (IOException e) {
       throw new UncheckedIOException(e);
     }
@@ -157,10 +165,8 @@ public class ClientPlayer implements AutoCloseable {
 
   private void writeMessage(Message message) {
     try {
-      byte[] data = messageWriter.write(message);
-      dataOutputStream.writeInt(data.length);
-      dataOutputStream.write(data);
-      dataOutputStream.flush();
+      messageOutput.enqueue(message);
+      messageOutput.flush();
     } catch (IOException e) {
       throw new RuntimeException(e);
     }
@@ -168,11 +174,7 @@ public class ClientPlayer implements AutoCloseable {
 
   private Message readMessage() {
     try {
-      int frameLength = dataInputStream.readInt();
-      byte[] data = new byte[frameLength];
-      dataInputStream.readFully(data);
-
-      return messageReader.read(data);
+      return messageInput.read();
 
     } catch (IOException exception) {
       throw new UncheckedIOException(exception);
@@ -21,6 +21,7 @@ import bakeit.club.tictactoe.net.MessageReader;
 import bakeit.club.tictactoe.net.MessageWriter;
 import bakeit.club.tictactoe.net.Move;
 import bakeit.club.tictactoe.net.MoveAccepted;
+import bakeit.club.tictactoe.net.ProtocolVersion;
 import bakeit.club.tictactoe.net.WaitOpponentsMove;
 import java.io.DataInputStream;
 import java.io.DataOutputStream;
@@ -76,11 +77,11 @@ class ClientPlayerTest {
     long token2 = RANDOM.nextLong(0, Long.MAX_VALUE);
     BoardState initialBoardState = BoardState.empty();
 
-    BoardState finalBoardState = new BoardState(
+    BoardState finalBoardState = BoardState.of(
         EMPTY, X, X, O, O, O, X, X, EMPTY
     );
 
-    mock.expect(new JoinGame("John"));
+    mock.expect(new JoinGame("John", ProtocolVersion.LATEST));
     mock.send(new GameStarted(Marker.O, "Filip"));
     mock.send(new WaitOpponentsMove(initialBoardState));
     mock.send(new MakeMove(token1, initialBoardState));
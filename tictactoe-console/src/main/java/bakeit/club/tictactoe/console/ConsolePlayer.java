@@ -85,7 +85,7 @@ public class ConsolePlayer implements Player {
     for (int row = 0; row < 3; row++) {
       System.out.print(" " + (row + 1) + " |");
       for (int column = 0; column < 3; column++) {
-        Marker marker = boardState.getMarker(new Position(row, column));
+        Marker marker = boardState.getMarker(3 * row + column);
         String symbol;
         if (marker == Marker.EMPTY) {
           symbol = " ";
@@ -130,7 +130,7 @@ public class ConsolePlayer implements Player {
         continue;
       }
 
-      position = new Position(d - '0' - 1, c - 'a');
+      position = Position.of(d - '0' - 1, c - 'a');
     }
 
     return position;
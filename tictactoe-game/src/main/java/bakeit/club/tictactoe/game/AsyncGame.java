@@ -0,0 +1,197 @@
+package bakeit.club.tictactoe.game;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+
+/**
+ * A tic-tac-toe game driven by {@link AsyncPlayer}s. Unlike the {@link Game}, it does not block any
+ * thread while waiting for the players. The game is an explicit state machine which advances every
+ * time a future returned by a player completes. The transitions are run as tasks of the given
+ * executor, so a single event loop thread can drive any number of concurrent games.
+ * <p>
+ * The transitions of one game never run concurrently, each of them is triggered by the completion
+ * of the future returned in the previous one.
+ * </p>
+ */
+public class AsyncGame {
+
+  /**
+   * The state of the game.
+   */
+  public enum State {
+    NEW,
+    STARTING,
+    WAITING_OPPONENT,
+    WAITING_MOVE,
+    ACCEPTING_MOVE,
+    REJECTING_MOVE,
+    ENDING,
+    ENDED,
+    FAILED
+  }
+
+  private final Board board = new Board();
+  private final Executor executor;
+  private final GameListener listener;
+  private final GameRecord record = new GameRecord();
+  private final CompletableFuture<GameStatus> completion = new CompletableFuture<>();
+  private AsyncPlayer movingPlayer;
+  private AsyncPlayer waitingPlayer;
+  private Marker movingMarker = Marker.X;
+  private BoardState currentState = BoardState.empty();
+  private volatile State state = State.NEW;
+
+  /**
+   * Creates a new game. The first player plays with the {@link Marker#X} marker and starts the
+   * game.
+   *
+   * @param player1  the first player
+   * @param player2  the second player
+   * @param executor the executor running the transitions of the game, it should not run the tasks
+   *                 in the calling thread
+   */
+  public AsyncGame(AsyncPlayer player1, AsyncPlayer player2, Executor executor) {
+    this(player1, player2, executor, GameListener.NO_OP);
+  }
+
+  /**
+   * Creates a new game. The first player plays with the {@link Marker#X} marker and starts the
+   * game.
+   *
+   * @param player1  the first player
+   * @param player2  the second player
+   * @param executor the executor running the transitions of the game, it should not run the tasks
+   *                 in the calling thread
+   * @param listener the listener of the game events
+   */
+  public AsyncGame(AsyncPlayer player1, AsyncPlayer player2, Executor executor,
+      GameListener listener) {
+    this.movingPlayer = requireNonNull(player1);
+    this.waitingPlayer = requireNonNull(player2);
+    this.executor = requireNonNull(executor);
+    this.listener = requireNonNull(listener);
+  }
+
+  /**
+   * Starts the game.
+   *
+   * @return the future completed with the final status of the game once both players have been
+   * notified about its end, or completed exceptionally if any of the players failed
+   * @throws IllegalStateException If the game has already been started.
+   */
+  public CompletableFuture<GameStatus> start() {
+    if (state != State.NEW) {
+      throw new IllegalStateException("The game has already been started.");
+    }
+
+    state = State.STARTING;
+    AsyncPlayer player1 = movingPlayer;
+    AsyncPlayer player2 = waitingPlayer;
+    listener.gameStarted(player1.getName(), player2.getName(), System.currentTimeMillis());
+    await(
+        player1.gameStarted(new PlayerGameInfo(Marker.X, player2.getName()))
+            .thenCompose(ignored -> player2.gameStarted(
+                new PlayerGameInfo(Marker.O, player1.getName()))),
+        ignored -> requestMove());
+
+    return completion;
+  }
+
+  /**
+   * Gets the current state of the game.
+   *
+   * @return the state
+   */
+  public State getState() {
+    return state;
+  }
+
+  /**
+   * Gets the record of the moves played so far. It must not be accessed while the game is being
+   * played.
+   *
+   * @return the record filled while the game is played
+   */
+  public GameRecord getRecord() {
+    return record;
+  }
+
+  private void requestMove() {
+    state = State.WAITING_OPPONENT;
+    await(waitingPlayer.waitOpponentsMove(currentState), ignored -> {
+      state = State.WAITING_MOVE;
+      await(movingPlayer.placeMarker(currentState), this::onMove);
+    });
+  }
+
+  private void onMove(Position position) {
+    int validation = board.validateMove(position.row(), position.column(), movingMarker);
+    if (validation != MoveValidation.VALID) {
+      state = State.REJECTING_MOVE;
+      listener.moveRejected(movingMarker, position, MoveRejection.ofCode(validation),
+          System.currentTimeMillis());
+      await(movingPlayer.placementRejected(position,
+          MoveValidation.message(validation, position, movingMarker)), ignored -> requestMove());
+      return;
+    }
+
+    board.placeMarker(position, movingMarker);
+    state = State.ACCEPTING_MOVE;
+    currentState = BoardState.of(board);
+    record.add(position);
+    listener.moveAccepted(movingMarker, position, board.getStatus(), System.currentTimeMillis());
+    await(movingPlayer.placementAccepted(position, currentState), ignored -> afterMove());
+  }
+
+  private void afterMove() {
+    if (board.getStatus().isEnded()) {
+      end();
+      return;
+    }
+
+    AsyncPlayer playerMadeMove = movingPlayer;
+    movingPlayer = waitingPlayer;
+    waitingPlayer = playerMadeMove;
+    movingMarker = movingMarker == Marker.X ? Marker.O : Marker.X;
+    requestMove();
+  }
+
+  private void end() {
+    state = State.ENDING;
+    GameStatus status = board.getStatus();
+    listener.gameEnded(currentState, status, System.currentTimeMillis());
+    PlayersResult movingPlayerResult = status.winner() == Marker.EMPTY
+        ? PlayersResult.DRAW
+        : PlayersResult.VICTORY;
+
+    await(movingPlayer.gameEnded(currentState, movingPlayerResult),
+        ignored -> await(waitingPlayer.gameEnded(currentState, movingPlayerResult.invert()),
+            ignoredToo -> {
+              state = State.ENDED;
+              completion.complete(status);
+            }));
+  }
+
+  private <T> void await(CompletableFuture<T> future, Consumer<T> transition) {
+    future.whenCompleteAsync((value, failure) -> {
+      if (failure != null) {
+        fail(failure);
+        return;
+      }
+
+      try {
+        transition.accept(value);
+      } catch (RuntimeException e) {
+        fail(e);
+      }
+    }, executor);
+  }
+
+  private void fail(Throwable failure) {
+    state = State.FAILED;
+    completion.completeExceptionally(failure);
+  }
+}
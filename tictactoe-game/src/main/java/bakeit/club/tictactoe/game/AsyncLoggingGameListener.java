@@ -0,0 +1,201 @@
+package bakeit.club.tictactoe.game;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.System.Logger.Level;
+import java.time.Instant;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * A sink of game events which logs them asynchronously and collects the game metrics. The
+ * listeners of the individual games are created by {@link #forGame(String)}.
+ * <p>
+ * The listeners only update the metrics counters and put the events into a bounded queue, so the
+ * game threads never wait for I/O. The log lines are formatted and written by a single background
+ * thread. When the queue is full the events are dropped rather than blocking the game and the
+ * number of dropped events is reported in the metrics. Every event is either logged or counted as
+ * dropped, also the events of the games still running while the listener is being closed.
+ * </p>
+ */
+public class AsyncLoggingGameListener implements AutoCloseable {
+
+  private static final int DEFAULT_CAPACITY = 8192;
+
+  private final BlockingQueue<Event> queue;
+  private final Consumer<String> sink;
+  private final Thread writer;
+  private final LongAdder gamesStarted = new LongAdder();
+  private final LongAdder gamesEnded = new LongAdder();
+  private final LongAdder movesAccepted = new LongAdder();
+  private final LongAdder movesRejected = new LongAdder();
+  private final LongAdder droppedEvents = new LongAdder();
+  private final ReadWriteLock closeLock = new ReentrantReadWriteLock();
+  private volatile boolean closed;
+
+  /**
+   * Creates the listener logging to the {@link System.Logger} of this class.
+   */
+  public AsyncLoggingGameListener() {
+    this(line -> System.getLogger(AsyncLoggingGameListener.class.getName()).log(Level.INFO, line),
+        DEFAULT_CAPACITY);
+  }
+
+  /**
+   * Creates the listener.
+   *
+   * @param sink     the consumer of the log lines, it is called only by the background thread
+   * @param capacity the maximum number of events waiting to be logged
+   */
+  public AsyncLoggingGameListener(Consumer<String> sink, int capacity) {
+    this.sink = requireNonNull(sink);
+    this.queue = new ArrayBlockingQueue<>(capacity);
+    this.writer = Thread.ofPlatform()
+        .daemon()
+        .name("game-event-logger")
+        .start(this::writeEvents);
+  }
+
+  /**
+   * Creates the listener of one game.
+   *
+   * @param gameName the name identifying the game in the log lines
+   * @return the listener to be passed to the game
+   */
+  public GameListener forGame(String gameName) {
+    requireNonNull(gameName);
+
+    return new GameListener() {
+      @Override
+      public void gameStarted(String xPlayer, String oPlayer, long timestamp) {
+        gamesStarted.increment();
+        enqueue(new Event(gameName, timestamp, "started", xPlayer, "(X) vs", oPlayer, "(O)"));
+      }
+
+      @Override
+      public void moveAccepted(Marker marker, Position position, GameStatus status,
+          long timestamp) {
+        movesAccepted.increment();
+        enqueue(new Event(gameName, timestamp, "move accepted", marker, position, status));
+      }
+
+      @Override
+      public void moveRejected(Marker marker, Position position, MoveRejection reason,
+          long timestamp) {
+        movesRejected.increment();
+        enqueue(new Event(gameName, timestamp, "move rejected", marker, position, reason));
+      }
+
+      @Override
+      public void gameEnded(BoardState boardState, GameStatus status, long timestamp) {
+        gamesEnded.increment();
+        enqueue(new Event(gameName, timestamp, "ended", status, boardState));
+      }
+    };
+  }
+
+  /**
+   * Gets a snapshot of the metrics collected so far.
+   *
+   * @return the metrics
+   */
+  public Metrics metrics() {
+    return new Metrics(
+        gamesStarted.sum(),
+        gamesEnded.sum(),
+        movesAccepted.sum(),
+        movesRejected.sum(),
+        droppedEvents.sum()
+    );
+  }
+
+  /**
+   * Stops the background thread after it has logged all events queued so far.
+   *
+   * @throws InterruptedException If interrupted while waiting for the background thread.
+   */
+  @Override
+  public void close() throws InterruptedException {
+    // no event is being queued once the write lock is held, so the final drain gets all of them
+    closeLock.writeLock().lock();
+    try {
+      closed = true;
+    } finally {
+      closeLock.writeLock().unlock();
+    }
+
+    writer.interrupt();
+    writer.join();
+  }
+
+  private void enqueue(Event event) {
+    closeLock.readLock().lock();
+    try {
+      if (closed || !queue.offer(event)) {
+        droppedEvents.increment();
+      }
+    } finally {
+      closeLock.readLock().unlock();
+    }
+  }
+
+  private void writeEvents() {
+    while (!closed) {
+      try {
+        write(queue.take());
+      } catch (InterruptedException e) {
+        break;
+      }
+    }
+
+    Event event;
+    while ((event = queue.poll()) != null) {
+      write(event);
+    }
+  }
+
+  private void write(Event event) {
+    StringBuilder line = new StringBuilder()
+        .append(Instant.ofEpochMilli(event.timestamp))
+        .append(' ')
+        .append(event.game)
+        .append(" - ")
+        .append(event.type);
+    for (Object detail : event.details) {
+      line.append(' ').append(detail);
+    }
+
+    try {
+      sink.accept(line.toString());
+    } catch (RuntimeException e) {
+      droppedEvents.increment();
+    }
+  }
+
+  /**
+   * The metrics of the listened games.
+   *
+   * @param gamesStarted  the number of started games
+   * @param gamesEnded    the number of ended games
+   * @param movesAccepted the number of accepted moves
+   * @param movesRejected the number of rejected moves
+   * @param droppedEvents the number of events which have not been logged
+   */
+  public record Metrics(
+      long gamesStarted,
+      long gamesEnded,
+      long movesAccepted,
+      long movesRejected,
+      long droppedEvents
+  ) {
+
+  }
+
+  private record Event(String game, long timestamp, String type, Object... details) {
+
+  }
+}
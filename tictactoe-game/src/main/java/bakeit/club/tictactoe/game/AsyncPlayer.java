@@ -0,0 +1,82 @@
+package bakeit.club.tictactoe.game;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * A non-blocking variant of the {@link Player}. Every callback returns immediately and the returned
+ * future completes once the player has processed the call. The {@link AsyncGame} does not call
+ * the player again until the previous future has completed.
+ *
+ * @see #of(Player, Executor)
+ */
+public interface AsyncPlayer {
+
+  String getName();
+
+  /**
+   * Notifies this player that the game has started.
+   *
+   * @param gameInfo the basic information about the game
+   * @return the future completed once the notification is processed
+   */
+  CompletableFuture<Void> gameStarted(PlayerGameInfo gameInfo);
+
+  /**
+   * Indicates this player that it's now the opponents turn to make a move.
+   *
+   * @param boardState the current board state
+   * @return the future completed once the notification is processed
+   */
+  CompletableFuture<Void> waitOpponentsMove(BoardState boardState);
+
+  /**
+   * Calls the player to place the marker to a next position.
+   *
+   * @param boardState the current state of the board
+   * @return the future completed with the position where the player wants to place his marker
+   */
+  CompletableFuture<Position> placeMarker(BoardState boardState);
+
+  /**
+   * Notifies this player that his last placement of the marker has been accepted by the game.
+   *
+   * @param position   the position of the marker
+   * @param boardState the board state after the placement of the marker was accepted
+   * @return the future completed once the notification is processed
+   */
+  CompletableFuture<Void> placementAccepted(Position position, BoardState boardState);
+
+  /**
+   * Notifies this player that his last placement of the marker has been rejected by the game.
+   *
+   * @param position the position where the marker should have been placed
+   * @param reason   the reason of the placement rejection
+   * @return the future completed once the notification is processed
+   */
+  CompletableFuture<Void> placementRejected(Position position, String reason);
+
+  /**
+   * Signals the player the game ended.
+   *
+   * @param boardState the end-game board state
+   * @param result     the result of the game from the player's perspective
+   * @return the future completed once the notification is processed
+   */
+  CompletableFuture<Void> gameEnded(BoardState boardState, PlayersResult result);
+
+  /**
+   * Adapts a blocking player. Every call of the player is run as a task of the given executor, so
+   * the blocking calls do not block the caller. Use {@code Runnable::run} as the executor for
+   * players which never block.
+   *
+   * @param player   the blocking player
+   * @param executor the executor running the calls of the player
+   * @return the non-blocking player
+   */
+  static AsyncPlayer of(Player player, Executor executor) {
+    return new BlockingPlayerAdapter(requireNonNull(player), requireNonNull(executor));
+  }
+}
@@ -0,0 +1,54 @@
+package bakeit.club.tictactoe.game;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * An {@link AsyncPlayer} running the calls of a blocking {@link Player} on an executor.
+ */
+class BlockingPlayerAdapter implements AsyncPlayer {
+
+  private final Player player;
+  private final Executor executor;
+
+  BlockingPlayerAdapter(Player player, Executor executor) {
+    this.player = player;
+    this.executor = executor;
+  }
+
+  @Override
+  public String getName() {
+    return player.getName();
+  }
+
+  @Override
+  public CompletableFuture<Void> gameStarted(PlayerGameInfo gameInfo) {
+    return CompletableFuture.runAsync(() -> player.gameStarted(gameInfo), executor);
+  }
+
+  @Override
+  public CompletableFuture<Void> waitOpponentsMove(BoardState boardState) {
+    return CompletableFuture.runAsync(() -> player.waitOpponentsMove(boardState), executor);
+  }
+
+  @Override
+  public CompletableFuture<Position> placeMarker(BoardState boardState) {
+    return CompletableFuture.supplyAsync(() -> player.placeMarker(boardState), executor);
+  }
+
+  @Override
+  public CompletableFuture<Void> placementAccepted(Position position, BoardState boardState) {
+    return CompletableFuture.runAsync(
+        () -> player.placementAccepted(position, boardState), executor);
+  }
+
+  @Override
+  public CompletableFuture<Void> placementRejected(Position position, String reason) {
+    return CompletableFuture.runAsync(() -> player.placementRejected(position, reason), executor);
+  }
+
+  @Override
+  public CompletableFuture<Void> gameEnded(BoardState boardState, PlayersResult result) {
+    return CompletableFuture.runAsync(() -> player.gameEnded(boardState, result), executor);
+  }
+}
@@ -11,14 +11,12 @@ import static java.util.Objects.requireNonNull;
  *   [1, 0] [1, 1] [1, 2]
  *   [2, 0] [2, 1] [2, 2]
  * </pre>
+ * The cells are stored as a pair of occupancy masks packed into a single {@code int}.
  */
 public class Board {
 
-  private final Marker[] cells = {
-      EMPTY, EMPTY, EMPTY,
-      EMPTY, EMPTY, EMPTY,
-      EMPTY, EMPTY, EMPTY
-  };
+  private int cells;
+  private GameStatus status = GameStatus.IN_PROGRESS;
 
   /**
    * Places a marker to the specified position on the board. Markers can be placed only into empty
@@ -26,10 +24,11 @@ public class Board {
    *
    * @param position  the position on the board
    * @param marker the marker to place
+   * @return the status of the game after the placement
    * @throws InvalidMove If the move is invalid.
    */
-  public void placeMarker(Position position, Marker marker) {
-    int index = toIndex(position);
+  public GameStatus placeMarker(Position position, Marker marker) {
+    int index = position.index();
 
     requireNonNull(marker);
 
@@ -37,12 +36,43 @@ public class Board {
       throw new InvalidMove("Cannot empty a cell.");
     }
 
-    if (cells[index] != EMPTY) {
+    if ((Cells.occupied(cells) & (1 << index)) != 0) {
       throw new InvalidMove(
-          "Position [" + position.row() + ", " + position.column() + "] already contains a marker " + cells[index]);
+          "Position [" + position.row() + ", " + position.column() + "] already contains a marker "
+              + Cells.markerAt(cells, index));
     }
 
-    cells[index] = marker;
+    cells = Cells.withMarker(cells, index, marker);
+    if (!status.isEnded()) {
+      status = Rules.statusAfterMove(cells, index);
+    }
+
+    return status;
+  }
+
+  /**
+   * Validates a move without placing the marker. Unlike {@link #placeMarker(Position, Marker)} it
+   * does not throw, it also checks the turn order where {@link Marker#X} moves first, and it does
+   * not allocate.
+   *
+   * @param row    the row of the move, it does not have to be on the board
+   * @param column the column of the move, it does not have to be on the board
+   * @param marker the marker of the moving player
+   * @return {@link MoveValidation#VALID} or the code of the reason why the move is invalid
+   */
+  public int validateMove(int row, int column, Marker marker) {
+    return MoveValidation.validate(cells, status, row, column, marker);
+  }
+
+  /**
+   * Gets the status of the game on this board. The status is updated incrementally on every
+   * placement by checking only the lines passing through the last placed marker. Once the game
+   * has ended the status does not change anymore.
+   *
+   * @return the current status of the game
+   */
+  public GameStatus getStatus() {
+    return status;
   }
 
   /**
@@ -52,11 +82,22 @@ public class Board {
    * @return the marker at the position {@code [row, column]}.
    */
   public Marker getMarker(Position position) {
-    return cells[toIndex(position)];
+    return Cells.markerAt(cells, position.index());
+  }
+
+  /**
+   * Gets a marker at a given cell index.
+   *
+   * @param index the cell index {@code 3 * row + column}
+   * @return the marker at the cell
+   * @see Position#index()
+   */
+  public Marker getMarker(int index) {
+    return Cells.markerAt(cells, Cells.checkIndex(index));
   }
 
-  private int toIndex(Position position) {
-    return 3 * position.row() + position.column();
+  int packed() {
+    return cells;
   }
 
 }
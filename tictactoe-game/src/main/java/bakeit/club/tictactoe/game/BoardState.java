@@ -1,47 +1,211 @@
 package bakeit.club.tictactoe.game;
 
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.List;
+import java.util.StringJoiner;
 
-public record BoardState(List<Marker> cells) {
+/**
+ * An immutable snapshot of the board cells. The cells are stored as a pair of 9-bit occupancy
+ * masks packed into a single {@code int}: the bits {@code 0..8} hold the cells occupied by
+ * {@link Marker#X} and the bits {@code 9..17} hold the cells occupied by {@link Marker#O}. The bit
+ * index within a mask is the cell index {@code 3 * row + column}.
+ * <p>
+ * There are only {@code 3^9} possible cell assignments, so all board states are created upfront
+ * and every factory method returns one of these canonical instances. Two board states are equal if
+ * and only if they hold the same cells, which for the canonical instances also means they are the
+ * same instance.
+ * </p>
+ * <p>
+ * Every board state carries its precomputed {@link Zobrist} key, which is also the source of its
+ * {@link #hashCode()}, so board states are cheap keys in hash-based caches and external
+ * transposition tables can index positions by the key directly.
+ * </p>
+ */
+public final class BoardState {
+
+  /**
+   * The number of all possible board states, {@code 3^9}.
+   */
+  public static final int COUNT = 19_683;
+
+  private static final int[] BASE3 = new int[1 << Cells.SIZE];
+  private static final BoardState[] STATES = new BoardState[COUNT];
+
+  static {
+    for (int mask = 0; mask < BASE3.length; mask++) {
+      int code = 0;
+      int weight = 1;
+      for (int cell = 0; cell < Cells.SIZE; cell++) {
+        if ((mask & (1 << cell)) != 0) {
+          code += weight;
+        }
+        weight *= 3;
+      }
+      BASE3[mask] = code;
+    }
+
+    for (int x = 0; x < BASE3.length; x++) {
+      for (int o = 0; o < BASE3.length; o++) {
+        if ((x & o) == 0) {
+          int packed = x | (o << Cells.O_SHIFT);
+          STATES[codeOf(packed)] = new BoardState(packed);
+        }
+      }
+    }
+  }
+
+  private final int cells;
+  private final int code;
+  private final long zobristKey;
 
   public static BoardState empty() {
-    return new BoardState(List.of(
-        Marker.EMPTY, Marker.EMPTY, Marker.EMPTY,
-        Marker.EMPTY, Marker.EMPTY, Marker.EMPTY,
-        Marker.EMPTY, Marker.EMPTY, Marker.EMPTY)
-    );
+    return STATES[0];
   }
 
-  public static BoardState of(Marker[] cells) {
-    return new BoardState(Arrays.asList(cells));
+  public static BoardState of(Marker... cells) {
+    if (cells.length != Cells.SIZE) {
+      throw new IllegalArgumentException(
+          "Expected " + Cells.SIZE + " cells but " + cells.length + " were given.");
+    }
+
+    int packed = 0;
+    for (int i = 0; i < Cells.SIZE; i++) {
+      packed = Cells.withMarker(packed, i, cells[i]);
+    }
+
+    return STATES[codeOf(packed)];
   }
 
   public static BoardState of(Board board) {
-    List<Marker> cells = new ArrayList<>(9);
-    for (int i = 0; i < 9; i++) {
-      cells.add(board.getMarker(new Position(i / 3, i % 3)));
+    return STATES[codeOf(board.packed())];
+  }
+
+  /**
+   * Gets the board state for its packed representation.
+   *
+   * @param packed the packed occupancy masks
+   * @return the board state
+   * @throws IllegalArgumentException If the value is not a valid packed board.
+   * @see #packed()
+   */
+  public static BoardState ofPacked(int packed) {
+    if (!Cells.isValid(packed)) {
+      throw new IllegalArgumentException("Value '" + packed + "' is not a valid packed board.");
+    }
+
+    return STATES[codeOf(packed)];
+  }
+
+  /**
+   * Gets the board state for its base-3 code.
+   *
+   * @param code the base-3 code
+   * @return the board state
+   * @throws IllegalArgumentException If the code is out of range.
+   * @see #code()
+   */
+  public static BoardState ofCode(int code) {
+    if (code < 0 || code >= COUNT) {
+      throw new IllegalArgumentException(
+          "Value 'code=" + code + "' is out of bounds <0, " + (COUNT - 1) + ">");
     }
 
-    return new BoardState(cells);
+    return STATES[code];
   }
 
-  public BoardState {
-    cells = List.copyOf(cells);
+  private static int codeOf(int packed) {
+    return BASE3[Cells.xMask(packed)] + 2 * BASE3[Cells.oMask(packed)];
   }
 
-  public BoardState(
-      Marker m0, Marker m1, Marker m2,
-      Marker m3, Marker m4, Marker m5,
-      Marker m6, Marker m7, Marker m8) {
-    this(List.of(
-        m0, m1, m2, m3, m4, m5, m6, m7, m8
-    ));
+  private BoardState(int cells) {
+    this.cells = cells;
+    this.code = codeOf(cells);
+    this.zobristKey = Zobrist.hash(cells);
   }
 
   public Marker getMarker(Position position) {
-    return cells.get(position.row() * 3 + position.column());
+    return Cells.markerAt(cells, position.index());
   }
 
+  /**
+   * Gets a marker at a given cell index.
+   *
+   * @param index the cell index {@code 3 * row + column}
+   * @return the marker at the cell
+   * @see Position#index()
+   */
+  public Marker getMarker(int index) {
+    return Cells.markerAt(cells, Cells.checkIndex(index));
+  }
+
+  /**
+   * Gets the board state with the marker placed at the given position. The cell does not have to
+   * be empty, its current marker is replaced.
+   *
+   * @param position the position on the board
+   * @param marker   the marker to set
+   * @return the resulting board state
+   */
+  public BoardState withMarker(Position position, Marker marker) {
+    return withMarker(position.index(), marker);
+  }
+
+  /**
+   * Gets the board state with the marker placed at the given cell index.
+   *
+   * @param index  the cell index {@code 3 * row + column}
+   * @param marker the marker to set
+   * @return the resulting board state
+   * @see #withMarker(Position, Marker)
+   */
+  public BoardState withMarker(int index, Marker marker) {
+    return STATES[codeOf(Cells.withMarker(cells, Cells.checkIndex(index), marker))];
+  }
+
+  /**
+   * Gets the packed representation of this board state.
+   *
+   * @return the X occupancy mask in the bits {@code 0..8} and the O occupancy mask in the bits
+   * {@code 9..17}
+   */
+  public int packed() {
+    return cells;
+  }
+
+  /**
+   * Gets the base-3 code of this board state. The code is the sum of {@code d * 3^i} over all
+   * cells {@code i} where {@code d} is {@code 0} for an empty cell, {@code 1} for
+   * {@link Marker#X} and {@code 2} for {@link Marker#O}.
+   *
+   * @return the code in the range {@code <0, 3^9)}
+   */
+  public int code() {
+    return code;
+  }
+
+  /**
+   * Gets the Zobrist key of this board state.
+   *
+   * @return the key equal to {@link Zobrist#hash(int)} of the packed board
+   */
+  public long zobristKey() {
+    return zobristKey;
+  }
+
+  @Override
+  public boolean equals(Object other) {
+    return this == other || other instanceof BoardState state && state.cells == cells;
+  }
+
+  @Override
+  public int hashCode() {
+    return Long.hashCode(zobristKey);
+  }
+
+  @Override
+  public String toString() {
+    StringJoiner joiner = new StringJoiner(", ", "BoardState[", "]");
+    for (int i = 0; i < Cells.SIZE; i++) {
+      joiner.add(Cells.markerAt(cells, i).name());
+    }
+    return joiner.toString();
+  }
 }
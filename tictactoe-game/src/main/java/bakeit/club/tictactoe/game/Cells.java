@@ -0,0 +1,63 @@
+package bakeit.club.tictactoe.game;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Helper functions for the packed representation of the board cells. The cells are packed into a
+ * single {@code int} holding two 9-bit occupancy masks. The bits {@code 0..8} hold the cells
+ * occupied by the {@link Marker#X} marker and the bits {@code 9..17} hold the cells occupied by
+ * the {@link Marker#O} marker. The bit index within a mask is the cell index
+ * {@code 3 * row + column}.
+ */
+final class Cells {
+
+  static final int SIZE = 9;
+  static final int O_SHIFT = 9;
+  static final int MASK = 0x1FF;
+
+  private Cells() {
+  }
+
+  static int xMask(int cells) {
+    return cells & MASK;
+  }
+
+  static int oMask(int cells) {
+    return (cells >>> O_SHIFT) & MASK;
+  }
+
+  static int occupied(int cells) {
+    return (cells | (cells >>> O_SHIFT)) & MASK;
+  }
+
+  static Marker markerAt(int cells, int index) {
+    if ((cells & (1 << index)) != 0) {
+      return Marker.X;
+    } else if ((cells & (1 << (index + O_SHIFT))) != 0) {
+      return Marker.O;
+    } else {
+      return Marker.EMPTY;
+    }
+  }
+
+  static int withMarker(int cells, int index, Marker marker) {
+    int cleared = cells & ~(1 << index) & ~(1 << (index + O_SHIFT));
+    return switch (requireNonNull(marker)) {
+      case X -> cleared | (1 << index);
+      case O -> cleared | (1 << (index + O_SHIFT));
+      case EMPTY -> cleared;
+    };
+  }
+
+  static int checkIndex(int index) {
+    if (index < 0 || index >= SIZE) {
+      throw new IllegalArgumentException("Value 'index=" + index + "' is out of bounds <0, 8>");
+    }
+
+    return index;
+  }
+
+  static boolean isValid(int cells) {
+    return (cells & ~((MASK << O_SHIFT) | MASK)) == 0 && (xMask(cells) & oMask(cells)) == 0;
+  }
+}
@@ -1,37 +1,38 @@
 package bakeit.club.tictactoe.game;
 
-import java.util.ArrayList;
+import static java.util.Objects.requireNonNull;
+
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 
 /**
  * A tic-tac-toe game.
  */
 public class Game {
 
-  private static final List<Tripple> TRIPPLES = new ArrayList<>(8);
-
-  static {
-    for (int i = 0; i < 3; i++) {
-      TRIPPLES.add(new Tripple(new Position(0, i), new Position(1, i), new Position(2, i)));
-      TRIPPLES.add(new Tripple(new Position(i, 0), new Position(i, 1), new Position(i, 2)));
-    }
-
-    TRIPPLES.add(new Tripple(new Position(0, 0), new Position(1, 1), new Position(2, 2)));
-    TRIPPLES.add(new Tripple(new Position(0, 2), new Position(1, 1), new Position(2, 0)));
-  }
-
   private final Board board;
   private Player movingPlayer;
   private Player waitingPlayer;
   private BoardState currentState;
   private final Map<Player, Marker> markerAssignments = new HashMap<>();
+  private final GameListener listener;
+  private final GameRecord record = new GameRecord();
 
   public Game(Player player1, Player player2) {
+    this(player1, player2, GameListener.NO_OP);
+  }
+
+  /**
+   * Creates a new game.
+   *
+   * @param player1  the first player, it plays with the {@link Marker#X} marker
+   * @param player2  the second player
+   * @param listener the listener of the game events
+   */
+  public Game(Player player1, Player player2, GameListener listener) {
     this.movingPlayer = player1;
     this.waitingPlayer = player2;
+    this.listener = requireNonNull(listener);
     this.board = new Board();
 
     this.currentState = BoardState.of(board);
@@ -41,6 +42,7 @@ public class Game {
     markerAssignments.put(movingPlayer, Marker.X);
     markerAssignments.put(waitingPlayer, Marker.O);
 
+    listener.gameStarted(movingPlayer.getName(), waitingPlayer.getName(), System.currentTimeMillis());
     movingPlayer.gameStarted(new PlayerGameInfo(markerAssignments.get(movingPlayer), waitingPlayer.getName()));
     waitingPlayer.gameStarted(new PlayerGameInfo(markerAssignments.get(waitingPlayer), movingPlayer.getName()));
 
@@ -52,12 +54,20 @@ public class Game {
 
     movingPlayer.gameEnded(currentState, movingPlayerResult);
     waitingPlayer.gameEnded(currentState, movingPlayerResult.invert());
+    listener.gameEnded(currentState, board.getStatus(), System.currentTimeMillis());
+  }
+
+  /**
+   * Gets the record of the moves played so far.
+   *
+   * @return the record filled while the game is played
+   */
+  public GameRecord getRecord() {
+    return record;
   }
 
   private PlayersResult detectMovingPlayerResult() {
-    Marker winnersMarker = findStrike()
-        .map(strike -> currentState.getMarker(strike.p1))
-        .orElse(Marker.EMPTY);
+    Marker winnersMarker = board.getStatus().winner();
 
     if (winnersMarker == Marker.EMPTY) {
       return PlayersResult.DRAW;
@@ -75,18 +85,19 @@ public class Game {
     while (!markerPlaced) {
       waitingPlayer.waitOpponentsMove(currentState);
       Position position = movingPlayer.placeMarker(currentState);
-      try {
+      int validation = board.validateMove(position.row(), position.column(), marker);
+      if (validation == MoveValidation.VALID) {
         board.placeMarker(position, marker);
         currentState = BoardState.of(board);
+        record.add(position);
+        listener.moveAccepted(marker, position, board.getStatus(), System.currentTimeMillis());
         movingPlayer.placementAccepted(position, currentState);
         markerPlaced = true;
-      } catch (InvalidMove invalidMove) {
-        String errorMessage = "Invalid move detected for the player playing with '"
-            + markerAssignments.get(movingPlayer)
-            + "': "
-            + invalidMove.getMessage();
-        System.out.println(errorMessage);
-        movingPlayer.placementRejected(position, errorMessage);
+      } else {
+        listener.moveRejected(marker, position, MoveRejection.ofCode(validation),
+            System.currentTimeMillis());
+        movingPlayer.placementRejected(position,
+            MoveValidation.message(validation, position, marker));
       }
     }
 
@@ -96,33 +107,6 @@ public class Game {
   }
 
   private boolean isGameEnded() {
-    if (findStrike().isPresent()) {
-      return true;
-    }
-
-    for (int i = 0; i < 9; i++) {
-      if (currentState.getMarker(position(i)) == Marker.EMPTY) {
-        return false;
-      }
-    }
-
-    return true;
-  }
-
-  private Optional<Tripple> findStrike() {
-    return TRIPPLES.stream().filter(t -> t.hasStrike(currentState)).findFirst();
-  }
-
-  private static Position position(int index) {
-    return new Position(index / 3, index % 3);
-  }
-
-  private record Tripple(Position p1, Position p2, Position p3) {
-
-    boolean hasStrike(BoardState state) {
-      return state.getMarker(p1) != Marker.EMPTY
-          && state.getMarker(p1) == state.getMarker(p2)
-          && state.getMarker(p2) == state.getMarker(p3);
-    }
+    return board.getStatus().isEnded();
   }
 }
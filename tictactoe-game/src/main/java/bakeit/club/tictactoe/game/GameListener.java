@@ -0,0 +1,65 @@
+package bakeit.club.tictactoe.game;
+
+/**
+ * A listener of the events of one game. The events are fired synchronously on the thread driving
+ * the game, so the implementations must return quickly and must not block. The timestamps are the
+ * wall-clock times of the events in milliseconds since the epoch.
+ * <p>
+ * All methods do nothing by default, so the implementations override only the events they are
+ * interested in.
+ * </p>
+ *
+ * @see AsyncLoggingGameListener
+ */
+public interface GameListener {
+
+  /**
+   * The listener ignoring all events.
+   */
+  GameListener NO_OP = new GameListener() {
+  };
+
+  /**
+   * Called when the game has started.
+   *
+   * @param xPlayer   the name of the player playing with the {@link Marker#X} marker
+   * @param oPlayer   the name of the player playing with the {@link Marker#O} marker
+   * @param timestamp the time of the event
+   */
+  default void gameStarted(String xPlayer, String oPlayer, long timestamp) {
+  }
+
+  /**
+   * Called when a move has been accepted.
+   *
+   * @param marker    the marker of the moving player
+   * @param position  the position of the marker
+   * @param status    the status of the game after the move
+   * @param timestamp the time of the event
+   */
+  default void moveAccepted(Marker marker, Position position, GameStatus status, long timestamp) {
+  }
+
+  /**
+   * Called when a move has been rejected.
+   *
+   * @param marker    the marker of the moving player
+   * @param position  the position where the marker should have been placed
+   * @param reason    the reason of the rejection, see
+   *                  {@link MoveValidation#message(int, Position, Marker)} for its description
+   * @param timestamp the time of the event
+   */
+  default void moveRejected(Marker marker, Position position, MoveRejection reason,
+      long timestamp) {
+  }
+
+  /**
+   * Called when the game has ended.
+   *
+   * @param boardState the end-game board state
+   * @param status     the final status of the game
+   * @param timestamp  the time of the event
+   */
+  default void gameEnded(BoardState boardState, GameStatus status, long timestamp) {
+  }
+}
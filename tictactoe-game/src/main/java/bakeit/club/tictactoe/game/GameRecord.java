@@ -0,0 +1,286 @@
+package bakeit.club.tictactoe.game;
+
+import java.nio.LongBuffer;
+import java.util.StringJoiner;
+
+/**
+ * A history of the moves of a game encoded into a single {@code long}. The cell index of the move
+ * {@code i} is stored in the bits {@code 4i..4i+3} and the number of moves in the bits
+ * {@code 60..63}. The player with the {@link Marker#X} marker makes the even moves.
+ * <p>
+ * An instance is a mutable record filled by the {@link Game} while it is played. The static
+ * methods work directly with the encoded games, so billions of games can be stored as plain
+ * {@code long}s and replayed to any ply without allocating.
+ * </p>
+ */
+public final class GameRecord {
+
+  /**
+   * The maximum number of moves of a game.
+   */
+  public static final int MAX_LENGTH = Cells.SIZE;
+
+  static final int LENGTH_SHIFT = 60;
+
+  private static final int CHUNK = 1024;
+
+  private long game;
+
+  /**
+   * Creates an empty record.
+   */
+  public GameRecord() {
+  }
+
+  private GameRecord(long game) {
+    this.game = game;
+  }
+
+  /**
+   * Decodes a record.
+   *
+   * @param game the encoded game
+   * @return the record
+   * @throws IllegalArgumentException If the value is not a valid encoded game.
+   * @see #isValid(long)
+   */
+  public static GameRecord decode(long game) {
+    if (!isValid(game)) {
+      throw new IllegalArgumentException("Value '" + game + "' is not a valid encoded game.");
+    }
+
+    return new GameRecord(game);
+  }
+
+  /**
+   * Encodes this record.
+   *
+   * @return the encoded game
+   */
+  public long encode() {
+    return game;
+  }
+
+  /**
+   * Appends a move to this record.
+   *
+   * @param position the position of the move
+   * @throws IllegalStateException If the move cannot follow the recorded moves, i.e. the game has
+   *                               already ended or the cell has already been played.
+   */
+  public void add(Position position) {
+    if (length(game) == MAX_LENGTH) {
+      throw new IllegalStateException("The record is full.");
+    }
+
+    int packed = packedAt(game, length(game));
+    if (Rules.status(packed).isEnded()) {
+      throw new IllegalStateException("The game has already ended.");
+    }
+
+    int cell = position.index();
+    if ((Cells.occupied(packed) & (1 << cell)) != 0) {
+      throw new IllegalStateException("The cell " + cell + " has already been played.");
+    }
+
+    game = append(game, cell);
+  }
+
+  /**
+   * Gets the number of recorded moves.
+   *
+   * @return the number of moves
+   */
+  public int length() {
+    return length(game);
+  }
+
+  /**
+   * Gets a recorded move.
+   *
+   * @param ply the zero based index of the move
+   * @return the position of the move
+   * @throws IllegalArgumentException If there is no such move.
+   */
+  public Position position(int ply) {
+    checkPly(game, ply, length(game) - 1);
+    return Position.ofIndex(move(game, ply));
+  }
+
+  /**
+   * Gets the board after the given number of moves.
+   *
+   * @param ply the number of moves to replay
+   * @return the board state
+   * @throws IllegalArgumentException If the ply is out of the recorded moves.
+   */
+  public BoardState boardAt(int ply) {
+    return boardAt(game, ply);
+  }
+
+  /**
+   * Appends a move to an encoded game. The move is not validated.
+   *
+   * @param game the encoded game
+   * @param cell the cell index of the move
+   * @return the encoded game with the move appended
+   */
+  public static long append(long game, int cell) {
+    int length = length(game);
+    long moves = game & ((1L << LENGTH_SHIFT) - 1);
+    return moves | (long) cell << (4 * length) | (long) (length + 1) << LENGTH_SHIFT;
+  }
+
+  /**
+   * Gets the number of moves of an encoded game.
+   *
+   * @param game the encoded game
+   * @return the number of moves
+   */
+  public static int length(long game) {
+    return (int) (game >>> LENGTH_SHIFT);
+  }
+
+  /**
+   * Gets a move of an encoded game.
+   *
+   * @param game the encoded game
+   * @param ply  the zero based index of the move
+   * @return the cell index of the move
+   */
+  public static int move(long game, int ply) {
+    return (int) (game >>> (4 * ply)) & 0xF;
+  }
+
+  /**
+   * Replays an encoded game to the given ply.
+   *
+   * @param game the encoded game, it is not validated
+   * @param ply  the number of moves to replay
+   * @return the packed board after the moves, see {@link BoardState#packed()}
+   */
+  public static int packedAt(long game, int ply) {
+    int packed = 0;
+    for (int i = 0; i < ply; i++) {
+      packed |= 1 << (move(game, i) + ((i & 1) == 0 ? 0 : Cells.O_SHIFT));
+    }
+    return packed;
+  }
+
+  /**
+   * Replays an encoded game to the given ply.
+   *
+   * @param game the encoded game
+   * @param ply  the number of moves to replay
+   * @return the board state after the moves
+   * @throws IllegalArgumentException If the ply is out of the recorded moves.
+   */
+  public static BoardState boardAt(long game, int ply) {
+    checkPly(game, ply, length(game));
+    return BoardState.ofPacked(packedAt(game, ply));
+  }
+
+  /**
+   * Checks whether the value is a valid encoded game. A valid game has at most nine moves, all
+   * unused bits are zero, no cell is played twice and there is no move after the game has ended.
+   *
+   * @param game the encoded game
+   * @return {@code true} if the game is valid, {@code false} otherwise
+   */
+  public static boolean isValid(long game) {
+    int length = length(game);
+    if (length > MAX_LENGTH || (game & ((1L << LENGTH_SHIFT) - 1)) >>> (4 * length) != 0) {
+      return false;
+    }
+
+    int packed = 0;
+    for (int ply = 0; ply < length; ply++) {
+      int cell = move(game, ply);
+      if (cell >= Cells.SIZE
+          || (Cells.occupied(packed) & (1 << cell)) != 0
+          || Rules.status(packed).isEnded()) {
+        return false;
+      }
+      packed |= 1 << (cell + ((ply & 1) == 0 ? 0 : Cells.O_SHIFT));
+    }
+
+    return true;
+  }
+
+  /**
+   * Replays all games from the current position to the limit of a buffer. The buffer position is
+   * advanced past the replayed games. The games are read in bulk, so the buffer may be a view of a
+   * memory-mapped file.
+   *
+   * @param games    the buffer of the encoded games
+   * @param consumer the consumer of the games and their final board states
+   * @return the number of replayed games
+   * @throws IllegalArgumentException If any of the games is not valid, the buffer position is then
+   *                                  set after the invalid game.
+   */
+  public static int replayAll(LongBuffer games, ReplayConsumer consumer) {
+    long[] chunk = new long[Math.min(CHUNK, games.remaining())];
+    int count = 0;
+
+    while (games.hasRemaining()) {
+      int size = Math.min(chunk.length, games.remaining());
+      int start = games.position();
+      games.get(chunk, 0, size);
+
+      for (int i = 0; i < size; i++) {
+        long game = chunk[i];
+        if (!isValid(game)) {
+          games.position(start + i + 1);
+          throw new IllegalArgumentException(
+              "The game at index " + (start + i) + " is not valid: " + game);
+        }
+
+        consumer.accept(game, BoardState.ofPacked(packedAt(game, length(game))));
+        count++;
+      }
+    }
+
+    return count;
+  }
+
+  private static void checkPly(long game, int ply, int max) {
+    if (ply < 0 || ply > max) {
+      throw new IllegalArgumentException(
+          "Value 'ply=" + ply + "' is out of bounds <0, " + max + ">");
+    }
+  }
+
+  @Override
+  public boolean equals(Object other) {
+    return this == other || other instanceof GameRecord record && record.game == game;
+  }
+
+  @Override
+  public int hashCode() {
+    return Long.hashCode(game);
+  }
+
+  @Override
+  public String toString() {
+    StringJoiner joiner = new StringJoiner(", ", "GameRecord[", "]");
+    for (int ply = 0; ply < length(game); ply++) {
+      joiner.add(String.valueOf(move(game, ply)));
+    }
+    return joiner.toString();
+  }
+
+  /**
+   * A consumer of the replayed games.
+   */
+  @FunctionalInterface
+  public interface ReplayConsumer {
+
+    /**
+     * Accepts a replayed game.
+     *
+     * @param game       the encoded game
+     * @param finalState the board state after all moves of the game
+     */
+    void accept(long game, BoardState finalState);
+  }
+}
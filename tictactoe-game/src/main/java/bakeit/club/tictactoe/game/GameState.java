@@ -0,0 +1,152 @@
+package bakeit.club.tictactoe.game;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * An immutable state of a game: the board, the player on the move and the status of the game. The
+ * state is a pure value independent of the players and of any I/O, the game rules are applied by
+ * the {@link #apply(GameState, Move)} function.
+ * <p>
+ * The player on the move and the status are fully determined by the board, so there are only as
+ * many game states as there are reachable boards. All of them are created upfront, every factory
+ * and every transition returns one of these canonical instances and does not allocate. A game can
+ * therefore be stored as its move log and cheaply rebuilt by {@link #replay(Iterable)}.
+ * </p>
+ */
+public final class GameState implements MoveResult {
+
+  private static final GameState[] STATES = new GameState[BoardState.COUNT];
+
+  static {
+    for (int code = 0; code < BoardState.COUNT; code++) {
+      BoardState board = BoardState.ofCode(code);
+      if (Rules.isReachable(board.packed())) {
+        STATES[code] = new GameState(board);
+      }
+    }
+  }
+
+  private final BoardState board;
+  private final Marker sideToMove;
+  private final GameStatus status;
+
+  private GameState(BoardState board) {
+    this.board = board;
+    this.sideToMove = Rules.sideToMove(board.packed());
+    this.status = Rules.status(board.packed());
+  }
+
+  /**
+   * Gets the state of a new game.
+   *
+   * @return the state with the empty board and the {@link Marker#X} player on the move
+   */
+  public static GameState initial() {
+    return STATES[0];
+  }
+
+  /**
+   * Gets the game state for the given board.
+   *
+   * @param board the board state
+   * @return the game state
+   * @throws IllegalArgumentException If the board cannot be reached in a legal game.
+   */
+  public static GameState of(BoardState board) {
+    GameState state = STATES[board.code()];
+    if (state == null) {
+      throw new IllegalArgumentException("The board " + board + " is not reachable.");
+    }
+
+    return state;
+  }
+
+  /**
+   * Applies a move to a game state. The function is pure, it has no side effects and it returns
+   * the same result for the same arguments.
+   *
+   * @param state the state before the move
+   * @param move  the move to apply
+   * @return the state after the move or the reason why the move has been rejected
+   */
+  public static MoveResult apply(GameState state, Move move) {
+    Position position = move.position();
+    int code = MoveValidation.validate(
+        state.board.packed(), state.status, position.row(), position.column(), move.marker());
+    if (code != MoveValidation.VALID) {
+      return MoveRejection.ofCode(code);
+    }
+
+    int index = position.index();
+    return STATES[state.board.withMarker(index, move.marker()).code()];
+  }
+
+  /**
+   * Rebuilds a game from its move log.
+   *
+   * @param moves the moves in the order they were played
+   * @return the state after all moves or the rejection of the first illegal move
+   */
+  public static MoveResult replay(Iterable<Move> moves) {
+    GameState state = initial();
+    for (Move move : moves) {
+      MoveResult result = apply(state, move);
+      if (!(result instanceof GameState next)) {
+        return result;
+      }
+      state = next;
+    }
+
+    return state;
+  }
+
+  /**
+   * Validates a move in this game state without applying it.
+   *
+   * @param row    the row of the move, it does not have to be on the board
+   * @param column the column of the move, it does not have to be on the board
+   * @param marker the marker of the moving player
+   * @return {@link MoveValidation#VALID} or the code of the reason why the move is invalid
+   */
+  public int validate(int row, int column, Marker marker) {
+    return MoveValidation.validate(board.packed(), status, row, column, marker);
+  }
+
+  /**
+   * Applies a move to this game state.
+   *
+   * @param move the move to apply
+   * @return the state after the move or the reason why the move has been rejected
+   * @see #apply(GameState, Move)
+   */
+  public MoveResult apply(Move move) {
+    return apply(this, requireNonNull(move));
+  }
+
+  public BoardState board() {
+    return board;
+  }
+
+  /**
+   * Gets the marker of the player on the move.
+   *
+   * @return the marker of the player who makes the next move, it is defined even if the game has
+   * ended
+   */
+  public Marker sideToMove() {
+    return sideToMove;
+  }
+
+  public GameStatus status() {
+    return status;
+  }
+
+  public boolean isEnded() {
+    return status.isEnded();
+  }
+
+  @Override
+  public String toString() {
+    return "GameState[board=" + board + ", sideToMove=" + sideToMove + ", status=" + status + "]";
+  }
+}
@@ -0,0 +1,51 @@
+package bakeit.club.tictactoe.game;
+
+/**
+ * A status of a game as determined by the game rules.
+ */
+public enum GameStatus {
+
+  /**
+   * The game has not ended yet, there is no strike and there are still empty cells on the board.
+   */
+  IN_PROGRESS(Marker.EMPTY),
+
+  /**
+   * The player playing with the {@link Marker#X} marker has made a strike.
+   */
+  X_WON(Marker.X),
+
+  /**
+   * The player playing with the {@link Marker#O} marker has made a strike.
+   */
+  O_WON(Marker.O),
+
+  /**
+   * All cells are occupied and there is no strike.
+   */
+  DRAW(Marker.EMPTY);
+
+  private final Marker winner;
+
+  GameStatus(Marker winner) {
+    this.winner = winner;
+  }
+
+  /**
+   * Gets the marker of the winner.
+   *
+   * @return the marker of the winning player or {@link Marker#EMPTY} if there is no winner
+   */
+  public Marker winner() {
+    return winner;
+  }
+
+  /**
+   * Indicates whether the game has ended.
+   *
+   * @return {@code true} if the game has ended, {@code false} otherwise
+   */
+  public boolean isEnded() {
+    return this != IN_PROGRESS;
+  }
+}
@@ -0,0 +1,156 @@
+package bakeit.club.tictactoe.game;
+
+import java.util.Spliterator;
+import java.util.function.LongConsumer;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Exhaustive enumeration of the tic-tac-toe game tree. The streams are splittable, so calling
+ * {@code parallel()} on them spreads the enumeration over the common fork-join pool.
+ * <p>
+ * The games are encoded into a single {@code long} each as described by the {@link GameRecord}.
+ * </p>
+ */
+public final class GameTree {
+
+  /**
+   * The number of all possible games.
+   */
+  public static final int GAME_COUNT = 255_168;
+
+  private GameTree() {
+  }
+
+  /**
+   * Enumerates all possible games from the empty board to their end. The stream splits at the
+   * first moves of the games.
+   *
+   * @return the stream of the encoded games, see {@link GameRecord}
+   */
+  public static LongStream games() {
+    return StreamSupport.longStream(new GameSpliterator(Cells.MASK), false);
+  }
+
+  /**
+   * Enumerates all board states reachable in a game, including the empty board and the ended
+   * games.
+   *
+   * @return the stream of the reachable board states
+   * @see Rules#isReachable(int)
+   */
+  public static Stream<BoardState> positions() {
+    return IntStream.range(0, BoardState.COUNT)
+        .mapToObj(BoardState::ofCode)
+        .filter(state -> Rules.isReachable(state.packed()));
+  }
+
+  private static final class GameSpliterator implements Spliterator.OfLong {
+
+    private final SearchBoard board = new SearchBoard();
+    private final int[] pending = new int[Cells.SIZE];
+    private int firstMoves;
+    private long moves;
+
+    GameSpliterator(int firstMoves) {
+      this.firstMoves = firstMoves;
+    }
+
+    @Override
+    public boolean tryAdvance(LongConsumer action) {
+      if (board.ply() > 0 && backtrack()) {
+        descend();
+        action.accept(moves | (long) board.ply() << GameRecord.LENGTH_SHIFT);
+        return true;
+      }
+
+      if (firstMoves == 0) {
+        return false;
+      }
+
+      make(SearchBoard.firstMove(firstMoves));
+      firstMoves = SearchBoard.nextMoves(firstMoves);
+      descend();
+      action.accept(moves | (long) board.ply() << GameRecord.LENGTH_SHIFT);
+      return true;
+    }
+
+    @Override
+    public void forEachRemaining(LongConsumer action) {
+      while (tryAdvance(action)) {
+        // the whole work is done by tryAdvance
+      }
+    }
+
+    @Override
+    public Spliterator.OfLong trySplit() {
+      int count = Integer.bitCount(firstMoves);
+      if (count < 2 || board.ply() > 0) {
+        // an ordered split must hand over a prefix, the subtree in progress cannot be handed over
+        return null;
+      }
+
+      int prefix = 0;
+      int remaining = firstMoves;
+      for (int i = 0; i < count / 2; i++) {
+        prefix |= Integer.lowestOneBit(remaining);
+        remaining = SearchBoard.nextMoves(remaining);
+      }
+
+      firstMoves = remaining;
+      return new GameSpliterator(prefix);
+    }
+
+    @Override
+    public long estimateSize() {
+      return (long) (Integer.bitCount(firstMoves) + (board.ply() > 0 ? 1 : 0))
+          * GAME_COUNT / Cells.SIZE;
+    }
+
+    @Override
+    public int characteristics() {
+      return ORDERED | DISTINCT | NONNULL | IMMUTABLE;
+    }
+
+    /**
+     * Reverts moves until a node with an unexplored move is found and makes that move.
+     *
+     * @return {@code true} if a move was made, {@code false} if the subtree of the current first
+     * move is exhausted and the board is back at the root
+     */
+    private boolean backtrack() {
+      while (board.ply() > 1) {
+        unmake();
+        int ply = board.ply();
+        if (pending[ply] != 0) {
+          make(SearchBoard.firstMove(pending[ply]));
+          pending[ply] = SearchBoard.nextMoves(pending[ply]);
+          return true;
+        }
+      }
+
+      unmake();
+      return false;
+    }
+
+    private void descend() {
+      while (!board.status().isEnded()) {
+        int legalMoves = board.legalMoves();
+        pending[board.ply()] = SearchBoard.nextMoves(legalMoves);
+        make(SearchBoard.firstMove(legalMoves));
+      }
+    }
+
+    private void make(int cell) {
+      moves |= (long) cell << (4 * board.ply());
+      board.make(cell);
+    }
+
+    private void unmake() {
+      board.unmake();
+      moves &= ~(0xFL << (4 * board.ply()));
+    }
+  }
+}
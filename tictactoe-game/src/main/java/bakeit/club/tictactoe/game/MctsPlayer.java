@@ -0,0 +1,124 @@
+package bakeit.club.tictactoe.game;
+
+import static bakeit.club.tictactoe.game.Marker.EMPTY;
+
+import bakeit.club.tictactoe.game.mnk.Mcts;
+import bakeit.club.tictactoe.game.mnk.MctsSettings;
+import bakeit.club.tictactoe.game.mnk.MnkBoard;
+
+/**
+ * A player choosing its moves by the Monte Carlo tree search. The time spent on every move is
+ * bounded by the {@link MctsSettings}.
+ * <p>
+ * The player keeps its search tree for the whole game. Every board state it receives is compared
+ * with the last known one and the tree is advanced by the new markers, so the statistics gathered
+ * while searching the previous moves are reused. If the board state cannot be reached from the
+ * last known one, the tree is rebuilt from scratch.
+ * </p>
+ * <p>
+ * A player searching by more threads owns a pool of them, so it should be closed when it is not
+ * needed anymore.
+ * </p>
+ */
+public class MctsPlayer implements Player, AutoCloseable {
+
+  private final String name;
+  private final Mcts mcts;
+  private BoardState known;
+
+  public MctsPlayer(String name, MctsSettings settings) {
+    this.name = name;
+    this.mcts = new Mcts(new MnkBoard(3, 3, 3), settings);
+    this.known = BoardState.empty();
+  }
+
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  @Override
+  public void gameStarted(PlayerGameInfo gameInfo) {
+    sync(BoardState.empty());
+  }
+
+  @Override
+  public void waitOpponentsMove(BoardState boardState) {
+    sync(boardState);
+  }
+
+  @Override
+  public Position placeMarker(BoardState boardState) {
+    sync(boardState);
+    return Position.ofIndex(mcts.search());
+  }
+
+  @Override
+  public void placementAccepted(Position position, BoardState boardState) {
+    sync(boardState);
+  }
+
+  @Override
+  public void placementRejected(Position position, String reason) {
+  }
+
+  @Override
+  public void gameEnded(BoardState boardState, PlayersResult result) {
+  }
+
+  /**
+   * Stops the threads of the search.
+   */
+  @Override
+  public void close() {
+    mcts.close();
+  }
+
+  private void sync(BoardState boardState) {
+    while (known != boardState) {
+      int cell = nextMove(boardState);
+      if (cell < 0) {
+        reset(boardState);
+        return;
+      }
+
+      mcts.advance(cell);
+      known = known.withMarker(cell, boardState.getMarker(cell));
+    }
+  }
+
+  private int nextMove(BoardState boardState) {
+    if (mcts.position().getStatus().isEnded()) {
+      return -1;
+    }
+
+    Marker mover = mcts.position().sideToMove();
+    int next = -1;
+
+    for (int cell = 0; cell < Cells.SIZE; cell++) {
+      Marker current = known.getMarker(cell);
+      Marker target = boardState.getMarker(cell);
+      if (current != EMPTY && current != target) {
+        return -1;
+      }
+      if (current == EMPTY && target == mover) {
+        next = cell;
+      }
+    }
+
+    return next;
+  }
+
+  private void reset(BoardState boardState) {
+    MnkBoard board = new MnkBoard(3, 3, 3);
+    for (int cell = 0; cell < Cells.SIZE; cell++) {
+      Marker marker = boardState.getMarker(cell);
+      if (marker != EMPTY) {
+        board.placeMarker(cell, marker);
+      }
+    }
+
+    mcts.setPosition(board);
+    known = boardState;
+  }
+}
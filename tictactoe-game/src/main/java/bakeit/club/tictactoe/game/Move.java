@@ -0,0 +1,21 @@
+package bakeit.club.tictactoe.game;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A move of a player placing his marker to a position on the board.
+ *
+ * @param marker   the marker of the moving player
+ * @param position the position where the marker is placed
+ */
+public record Move(Marker marker, Position position) {
+
+  public Move {
+    requireNonNull(marker);
+    requireNonNull(position);
+
+    if (marker == Marker.EMPTY) {
+      throw new IllegalArgumentException("A move must place the X or O marker.");
+    }
+  }
+}
@@ -0,0 +1,66 @@
+package bakeit.club.tictactoe.game;
+
+/**
+ * A reason why a move has been rejected by the game rules.
+ */
+public enum MoveRejection implements MoveResult {
+
+  /**
+   * The game has already ended.
+   */
+  GAME_OVER(MoveValidation.GAME_OVER),
+
+  /**
+   * The marker of the move is not the marker of the player on the move.
+   */
+  NOT_YOUR_TURN(MoveValidation.NOT_YOUR_TURN),
+
+  /**
+   * The position of the move already contains a marker.
+   */
+  OCCUPIED(MoveValidation.OCCUPIED),
+
+  /**
+   * The position of the move is not on the board.
+   */
+  OUT_OF_RANGE(MoveValidation.OUT_OF_RANGE);
+
+  private static final MoveRejection[] BY_CODE = new MoveRejection[values().length + 1];
+
+  static {
+    for (MoveRejection rejection : values()) {
+      BY_CODE[rejection.code] = rejection;
+    }
+  }
+
+  private final int code;
+
+  MoveRejection(int code) {
+    this.code = code;
+  }
+
+  /**
+   * Gets the rejection for a result code of the {@link MoveValidation}.
+   *
+   * @param code the code of an invalid move
+   * @return the rejection
+   * @throws IllegalArgumentException If the code is not a code of an invalid move.
+   */
+  public static MoveRejection ofCode(int code) {
+    if (code < 1 || code >= BY_CODE.length) {
+      throw new IllegalArgumentException(
+          "Value 'code=" + code + "' is out of bounds <1, " + (BY_CODE.length - 1) + ">");
+    }
+
+    return BY_CODE[code];
+  }
+
+  /**
+   * Gets the result code of the {@link MoveValidation} of this rejection.
+   *
+   * @return the code
+   */
+  public int code() {
+    return code;
+  }
+}
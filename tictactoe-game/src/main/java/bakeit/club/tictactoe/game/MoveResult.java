@@ -0,0 +1,11 @@
+package bakeit.club.tictactoe.game;
+
+/**
+ * A result of applying a {@link Move} to a {@link GameState}. It is either the new game state if
+ * the move was legal or the reason why the move was rejected.
+ *
+ * @see GameState#apply(GameState, Move)
+ */
+public sealed interface MoveResult permits GameState, MoveRejection {
+
+}
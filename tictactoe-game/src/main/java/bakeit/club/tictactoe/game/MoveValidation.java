@@ -0,0 +1,132 @@
+package bakeit.club.tictactoe.game;
+
+/**
+ * The validation of moves without exceptions. A move is validated into a primitive result code
+ * which can be checked without any allocation. The human-readable message of a code is built only
+ * when it is requested by {@link #message(int, Position, Marker)}.
+ */
+public final class MoveValidation {
+
+  /**
+   * The move is valid.
+   */
+  public static final int VALID = 0;
+
+  /**
+   * The game has already ended.
+   */
+  public static final int GAME_OVER = 1;
+
+  /**
+   * The marker of the move is not the marker of the player on the move.
+   */
+  public static final int NOT_YOUR_TURN = 2;
+
+  /**
+   * The position of the move already contains a marker.
+   */
+  public static final int OCCUPIED = 3;
+
+  /**
+   * The position of the move is not on the board.
+   */
+  public static final int OUT_OF_RANGE = 4;
+
+  private static final int CODES = 5;
+
+  /**
+   * The messages of the rejected moves indexed by {@code (code * 9 + cell) * 2 + marker}. There are
+   * only a few of them, so they are built on the first use and then reused. The races filling the
+   * cache are benign, all threads build equal strings.
+   */
+  private static final String[] MESSAGES = new String[CODES * Cells.SIZE * 2];
+
+  private MoveValidation() {
+  }
+
+  /**
+   * Validates a move.
+   *
+   * @param packed the packed board before the move
+   * @param status the status of the game before the move
+   * @param row    the row of the move, it does not have to be on the board
+   * @param column the column of the move, it does not have to be on the board
+   * @param marker the marker of the moving player
+   * @return {@link #VALID} or the code of the reason why the move is invalid
+   */
+  static int validate(int packed, GameStatus status, int row, int column, Marker marker) {
+    if (status.isEnded()) {
+      return GAME_OVER;
+    }
+
+    if (row < 0 || row > 2 || column < 0 || column > 2) {
+      return OUT_OF_RANGE;
+    }
+
+    if (marker != Rules.sideToMove(packed)) {
+      return NOT_YOUR_TURN;
+    }
+
+    if ((Cells.occupied(packed) & (1 << (3 * row + column))) != 0) {
+      return OCCUPIED;
+    }
+
+    return VALID;
+  }
+
+  /**
+   * Gets the human-readable message of an invalid move.
+   *
+   * @param code     the result code of the validation
+   * @param position the position of the move
+   * @param marker   the marker of the moving player, {@link Marker#X} or {@link Marker#O}
+   * @return the message describing why the move is invalid
+   * @throws IllegalArgumentException If the code is not a code of an invalid move.
+   */
+  public static String message(int code, Position position, Marker marker) {
+    checkCode(code);
+
+    if (marker == Marker.EMPTY) {
+      return message(code, position.row(), position.column(), marker);
+    }
+
+    int index = (code * Cells.SIZE + position.index()) * 2 + marker.ordinal();
+    String message = MESSAGES[index];
+    if (message == null) {
+      message = message(code, position.row(), position.column(), marker);
+      MESSAGES[index] = message;
+    }
+
+    return message;
+  }
+
+  /**
+   * Gets the human-readable message of an invalid move at any coordinates. Unlike
+   * {@link #message(int, Position, Marker)} it builds a new message on every call.
+   *
+   * @param code   the result code of the validation
+   * @param row    the row of the move
+   * @param column the column of the move
+   * @param marker the marker of the moving player
+   * @return the message describing why the move is invalid
+   * @throws IllegalArgumentException If the code is not a code of an invalid move.
+   */
+  public static String message(int code, int row, int column, Marker marker) {
+    checkCode(code);
+
+    String prefix = "Invalid move detected for the player playing with '" + marker + "': ";
+    return prefix + switch (code) {
+      case GAME_OVER -> "The game has already ended.";
+      case NOT_YOUR_TURN -> "It is not your turn.";
+      case OCCUPIED -> "Position [" + row + ", " + column + "] is already occupied.";
+      default -> "Position [" + row + ", " + column + "] is out of the board.";
+    };
+  }
+
+  private static void checkCode(int code) {
+    if (code <= VALID || code >= CODES) {
+      throw new IllegalArgumentException(
+          "Value 'code=" + code + "' is out of bounds <1, " + (CODES - 1) + ">");
+    }
+  }
+}
@@ -2,16 +2,76 @@ package bakeit.club.tictactoe.game;
 
 /**
  * A position on the board.
+ * <p>
+ * There are only nine positions on the board, so prefer the {@link #of(int, int)} and
+ * {@link #ofIndex(int)} factories which return cached instances over the constructor.
+ * </p>
  *
  * @param row the zero based row index
  * @param column the zero based column index
  */
 public record Position(int row, int column) {
+
+  private static final Position[] POSITIONS = new Position[9];
+
+  static {
+    for (int i = 0; i < POSITIONS.length; i++) {
+      POSITIONS[i] = new Position(i / 3, i % 3);
+    }
+  }
+
   public Position {
+    checkRow(row);
+    checkColumn(column);
+  }
+
+  /**
+   * Gets the position for the given coordinates.
+   *
+   * @param row    the zero based row index
+   * @param column the zero based column index
+   * @return the cached position instance
+   * @throws IllegalArgumentException If any of the coordinates is out of bounds.
+   */
+  public static Position of(int row, int column) {
+    checkRow(row);
+    checkColumn(column);
+
+    return POSITIONS[3 * row + column];
+  }
+
+  /**
+   * Gets the position for the given cell index.
+   *
+   * @param index the cell index {@code 3 * row + column}
+   * @return the cached position instance
+   * @throws IllegalArgumentException If the index is out of bounds.
+   * @see #index()
+   */
+  public static Position ofIndex(int index) {
+    if (index < 0 || index > 8) {
+      throw new IllegalArgumentException("Value 'index=" + index + "' is out of bounds <0, 8>");
+    }
+
+    return POSITIONS[index];
+  }
+
+  /**
+   * Gets the cell index of this position.
+   *
+   * @return the index {@code 3 * row + column}
+   */
+  public int index() {
+    return 3 * row + column;
+  }
+
+  private static void checkRow(int row) {
     if (row < 0 || row > 2) {
       throw new IllegalArgumentException("Value 'row=" + row + "' is out of bounds <0, 2>");
     }
+  }
 
+  private static void checkColumn(int column) {
     if (column < 0 || column > 2) {
       throw new IllegalArgumentException("Value 'column=" + column + "' is out of bounds <0, 2>");
     }
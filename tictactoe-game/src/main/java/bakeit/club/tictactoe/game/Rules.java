@@ -0,0 +1,141 @@
+package bakeit.club.tictactoe.game;
+
+import java.util.Arrays;
+
+/**
+ * The tic-tac-toe game rules evaluated on the packed board representation. A board is won when one
+ * of the occupancy masks covers any of the eight precomputed line masks (three rows, three columns
+ * and two diagonals).
+ *
+ * @see BoardState#packed()
+ */
+public final class Rules {
+
+  private static final int FULL = Cells.MASK;
+
+  private static final int[] LINES = {
+      0b000_000_111, 0b000_111_000, 0b111_000_000, // rows
+      0b001_001_001, 0b010_010_010, 0b100_100_100, // columns
+      0b100_010_001, 0b001_010_100                 // diagonals
+  };
+
+  private static final int[][] LINES_THROUGH = new int[Cells.SIZE][];
+
+  static {
+    for (int cell = 0; cell < Cells.SIZE; cell++) {
+      int count = 0;
+      int[] lines = new int[4];
+      for (int line : LINES) {
+        if ((line & (1 << cell)) != 0) {
+          lines[count++] = line;
+        }
+      }
+      LINES_THROUGH[cell] = Arrays.copyOf(lines, count);
+    }
+  }
+
+  private Rules() {
+  }
+
+  /**
+   * Evaluates the status of the game for the given board.
+   *
+   * @param packed the packed board
+   * @return the status of the game
+   */
+  public static GameStatus status(int packed) {
+    if (hasLine(Cells.xMask(packed))) {
+      return GameStatus.X_WON;
+    }
+
+    if (hasLine(Cells.oMask(packed))) {
+      return GameStatus.O_WON;
+    }
+
+    return Cells.occupied(packed) == FULL ? GameStatus.DRAW : GameStatus.IN_PROGRESS;
+  }
+
+  /**
+   * Evaluates the status of the game after a marker has been placed to the given cell. Only the
+   * lines passing through the cell are checked, so the board must have been
+   * {@link GameStatus#IN_PROGRESS in progress} before the placement.
+   *
+   * @param packed the packed board after the placement
+   * @param cell   the index of the cell where the last marker has been placed
+   * @return the status of the game
+   */
+  public static GameStatus statusAfterMove(int packed, int cell) {
+    boolean isX = (packed & (1 << cell)) != 0;
+    int mask = isX ? Cells.xMask(packed) : Cells.oMask(packed);
+
+    for (int line : LINES_THROUGH[cell]) {
+      if ((mask & line) == line) {
+        return isX ? GameStatus.X_WON : GameStatus.O_WON;
+      }
+    }
+
+    return Cells.occupied(packed) == FULL ? GameStatus.DRAW : GameStatus.IN_PROGRESS;
+  }
+
+  /**
+   * Evaluates the status of the game for the given board state.
+   *
+   * @param state the board state
+   * @return the status of the game
+   */
+  public static GameStatus status(BoardState state) {
+    return status(state.packed());
+  }
+
+  /**
+   * Checks whether the board can be reached in a game played according to the rules. The players
+   * take turns starting with {@link Marker#X} and the game stops at the first strike.
+   *
+   * @param packed the packed board
+   * @return {@code true} if the board is reachable
+   */
+  public static boolean isReachable(int packed) {
+    int x = Integer.bitCount(Cells.xMask(packed));
+    int o = Integer.bitCount(Cells.oMask(packed));
+    boolean xLine = hasLine(Cells.xMask(packed));
+    boolean oLine = hasLine(Cells.oMask(packed));
+
+    if (xLine) {
+      return x == o + 1 && !oLine;
+    } else if (oLine) {
+      return x == o;
+    } else {
+      return x == o || x == o + 1;
+    }
+  }
+
+  /**
+   * Gets the marker of the player who is on the move. The player with the {@link Marker#X} marker
+   * always makes the first move.
+   *
+   * @param packed the packed board
+   * @return {@link Marker#X} if both players have placed the same number of markers,
+   * {@link Marker#O} otherwise
+   */
+  public static Marker sideToMove(int packed) {
+    return Integer.bitCount(Cells.xMask(packed)) <= Integer.bitCount(Cells.oMask(packed))
+        ? Marker.X
+        : Marker.O;
+  }
+
+  /**
+   * Checks whether the given occupancy mask contains any line.
+   *
+   * @param mask the 9-bit occupancy mask of one marker
+   * @return {@code true} if the mask covers a whole row, column or diagonal
+   */
+  public static boolean hasLine(int mask) {
+    for (int line : LINES) {
+      if ((mask & line) == line) {
+        return true;
+      }
+    }
+
+    return false;
+  }
+}
@@ -0,0 +1,141 @@
+package bakeit.club.tictactoe.game;
+
+/**
+ * A mutable board for game-tree search. Moves are applied by {@link #make(int)} and reverted by
+ * {@link #unmake()}, while the side to move, the game status and the {@link Zobrist} hash are
+ * maintained incrementally. None of the operations allocate.
+ * <p>
+ * The operations do not validate their arguments, the callers are expected to make only the moves
+ * from {@link #legalMoves()}. The legal moves are returned as a cell mask which can be iterated
+ * without allocation:
+ * </p>
+ * <pre>
+ *   for (int moves = board.legalMoves(); moves != 0; moves = SearchBoard.nextMoves(moves)) {
+ *     board.make(SearchBoard.firstMove(moves));
+ *     ...
+ *     board.unmake();
+ *   }
+ * </pre>
+ */
+public class SearchBoard {
+
+  private final int[] moves = new int[Cells.SIZE];
+  private final GameStatus[] statuses = new GameStatus[Cells.SIZE + 1];
+  private int packed;
+  private int ply;
+  private long hash;
+
+  /**
+   * Creates an empty search board.
+   */
+  public SearchBoard() {
+    this(BoardState.empty());
+  }
+
+  /**
+   * Creates a search board set to the given position.
+   *
+   * @param state the initial position
+   */
+  public SearchBoard(BoardState state) {
+    reset(state);
+  }
+
+  /**
+   * Sets this board to the given position and clears the move history.
+   *
+   * @param state the position
+   */
+  public void reset(BoardState state) {
+    packed = state.packed();
+    ply = 0;
+    hash = Zobrist.hash(packed);
+    statuses[0] = Rules.status(packed);
+  }
+
+  /**
+   * Places the marker of the side to move to the cell.
+   *
+   * @param cell the cell index, must be one of the {@link #legalMoves()}
+   */
+  public void make(int cell) {
+    Marker side = sideToMove();
+    packed |= side == Marker.X ? 1 << cell : 1 << (cell + Cells.O_SHIFT);
+    hash ^= Zobrist.key(cell, side) ^ Zobrist.sideKey();
+    moves[ply++] = cell;
+    statuses[ply] = Rules.statusAfterMove(packed, cell);
+  }
+
+  /**
+   * Reverts the last move made by {@link #make(int)}.
+   */
+  public void unmake() {
+    int cell = moves[--ply];
+    packed &= ~(1 << cell) & ~(1 << (cell + Cells.O_SHIFT));
+    hash ^= Zobrist.key(cell, sideToMove()) ^ Zobrist.sideKey();
+  }
+
+  /**
+   * Gets the legal moves.
+   *
+   * @return the mask of empty cells, where the bit {@code i} stands for the cell index {@code i},
+   * or zero if the game has ended
+   */
+  public int legalMoves() {
+    return statuses[ply].isEnded() ? 0 : ~Cells.occupied(packed) & Cells.MASK;
+  }
+
+  /**
+   * Gets the first move of a move mask.
+   *
+   * @param moves the mask of moves
+   * @return the lowest cell index in the mask
+   */
+  public static int firstMove(int moves) {
+    return Integer.numberOfTrailingZeros(moves);
+  }
+
+  /**
+   * Removes the first move from the move mask.
+   *
+   * @param moves the mask of moves
+   * @return the mask without the lowest cell index
+   */
+  public static int nextMoves(int moves) {
+    return moves & (moves - 1);
+  }
+
+  public Marker sideToMove() {
+    return Rules.sideToMove(packed);
+  }
+
+  public GameStatus status() {
+    return statuses[ply];
+  }
+
+  /**
+   * Gets the Zobrist hash of the current position.
+   *
+   * @return the hash equal to {@link Zobrist#hash(int)} of the current position
+   */
+  public long hash() {
+    return hash;
+  }
+
+  /**
+   * Gets the number of moves made since the last reset.
+   *
+   * @return the number of moves that can be reverted
+   */
+  public int ply() {
+    return ply;
+  }
+
+  public int packed() {
+    return packed;
+  }
+
+  public BoardState toBoardState() {
+    return BoardState.ofPacked(packed);
+  }
+}
@@ -0,0 +1,147 @@
+package bakeit.club.tictactoe.game;
+
+/**
+ * A perfect-play solver of the tic-tac-toe game. The solver searches the game tree by negamax with
+ * alpha-beta pruning and stores the results in a transposition table indexed by the packed
+ * {@link Symmetry#canonical(int) canonical} board, so all symmetric positions share one entry and
+ * every position is searched at most a few times during the solver's lifetime.
+ * <p>
+ * The score of a position is given from the perspective of the player who is on the move. A
+ * positive score means the player wins, a negative score means the player loses and zero means a
+ * draw. The absolute value of a non-zero score is {@code 1 +} the number of empty cells left on
+ * the board when the game ends, so quicker wins and slower defeats score better.
+ * </p>
+ * <p>
+ * The solver is safe to be shared among threads, concurrent searches only race on storing the
+ * same results into the transposition table.
+ * </p>
+ */
+public class Solver {
+
+  private static final int[] MOVE_ORDER = {4, 0, 2, 6, 8, 1, 3, 5, 7};
+
+  private static final int EXACT = 1;
+  private static final int LOWER_BOUND = 2;
+  private static final int UPPER_BOUND = 3;
+  private static final int SCORE_OFFSET = 16;
+
+  private final short[] table = new short[1 << (2 * Cells.SIZE)];
+
+  /**
+   * Computes the score of the position.
+   *
+   * @param state the board state
+   * @return the score from the perspective of the player on the move
+   */
+  public int score(BoardState state) {
+    return search(state.packed(), -Cells.SIZE - 1, Cells.SIZE + 1);
+  }
+
+  /**
+   * Computes the game-theoretic value of the position.
+   *
+   * @param state the board state
+   * @return the result of the game with perfect play from the perspective of the player on the
+   * move
+   */
+  public PlayersResult value(BoardState state) {
+    int score = score(state);
+    if (score > 0) {
+      return PlayersResult.VICTORY;
+    } else if (score < 0) {
+      return PlayersResult.DEFEAT;
+    } else {
+      return PlayersResult.DRAW;
+    }
+  }
+
+  /**
+   * Finds all optimal moves in the position.
+   *
+   * @param state the board state
+   * @return the mask of the optimal cells where the bit {@code i} stands for the cell index
+   * {@code i}, or zero if the game has already ended
+   * @see Position#ofIndex(int)
+   */
+  public int optimalMoves(BoardState state) {
+    int packed = state.packed();
+    if (Rules.status(packed).isEnded()) {
+      return 0;
+    }
+
+    int shift = Rules.sideToMove(packed) == Marker.X ? 0 : Cells.O_SHIFT;
+    int empty = ~Cells.occupied(packed) & Cells.MASK;
+    int best = Integer.MIN_VALUE;
+    int moves = 0;
+
+    for (int cell = 0; cell < Cells.SIZE; cell++) {
+      if ((empty & (1 << cell)) != 0) {
+        int score = -search(packed | (1 << (cell + shift)), -Cells.SIZE - 1, Cells.SIZE + 1);
+        if (score > best) {
+          best = score;
+          moves = 1 << cell;
+        } else if (score == best) {
+          moves |= 1 << cell;
+        }
+      }
+    }
+
+    return moves;
+  }
+
+  private int search(int packed, int alpha, int beta) {
+    int x = Cells.xMask(packed);
+    int o = Cells.oMask(packed);
+    boolean xToMove = Integer.bitCount(x) <= Integer.bitCount(o);
+    int empty = ~(x | o) & Cells.MASK;
+
+    if (Rules.hasLine(xToMove ? o : x)) {
+      return -(Integer.bitCount(empty) + 1);
+    }
+
+    if (empty == 0) {
+      return 0;
+    }
+
+    int key = Symmetry.canonical(packed);
+    int entry = table[key];
+    if (entry != 0) {
+      int score = (entry >> 2) - SCORE_OFFSET;
+      switch (entry & 3) {
+        case EXACT -> {
+          return score;
+        }
+        case LOWER_BOUND -> alpha = Math.max(alpha, score);
+        default -> beta = Math.min(beta, score);
+      }
+
+      if (alpha >= beta) {
+        return score;
+      }
+    }
+
+    int originalAlpha = alpha;
+    int shift = xToMove ? 0 : Cells.O_SHIFT;
+    int best = Integer.MIN_VALUE;
+
+    for (int cell : MOVE_ORDER) {
+      if ((empty & (1 << cell)) != 0) {
+        int score = -search(packed | (1 << (cell + shift)), -beta, -alpha);
+        if (score > best) {
+          best = score;
+          if (score > alpha) {
+            alpha = score;
+            if (alpha >= beta) {
+              break;
+            }
+          }
+        }
+      }
+    }
+
+    int flag = best <= originalAlpha ? UPPER_BOUND : best >= beta ? LOWER_BOUND : EXACT;
+    table[key] = (short) (((best + SCORE_OFFSET) << 2) | flag);
+
+    return best;
+  }
+}
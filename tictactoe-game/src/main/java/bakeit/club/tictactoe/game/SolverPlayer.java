@@ -0,0 +1,62 @@
+package bakeit.club.tictactoe.game;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * A player that always makes one of the optimal moves computed by the {@link Solver}. When there
+ * are more optimal moves, one of them is picked randomly.
+ */
+public class SolverPlayer implements Player {
+
+  private final String name;
+  private final Solver solver;
+
+  public SolverPlayer(String name) {
+    this(name, new Solver());
+  }
+
+  public SolverPlayer(String name, Solver solver) {
+    this.name = name;
+    this.solver = solver;
+  }
+
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  @Override
+  public void gameStarted(PlayerGameInfo gameInfo) {
+  }
+
+  @Override
+  public void waitOpponentsMove(BoardState boardState) {
+  }
+
+  @Override
+  public Position placeMarker(BoardState boardState) {
+    int moves = solver.optimalMoves(boardState);
+    if (moves == 0) {
+      throw new IllegalStateException("There is no move left on the board " + boardState);
+    }
+
+    int pick = ThreadLocalRandom.current().nextInt(Integer.bitCount(moves));
+    for (int i = 0; i < pick; i++) {
+      moves &= moves - 1;
+    }
+
+    return Position.ofIndex(Integer.numberOfTrailingZeros(moves));
+  }
+
+  @Override
+  public void placementAccepted(Position position, BoardState boardState) {
+  }
+
+  @Override
+  public void placementRejected(Position position, String reason) {
+  }
+
+  @Override
+  public void gameEnded(BoardState boardState, PlayersResult result) {
+  }
+}
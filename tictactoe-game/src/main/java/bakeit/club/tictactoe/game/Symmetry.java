@@ -0,0 +1,163 @@
+package bakeit.club.tictactoe.game;
+
+import java.util.function.IntBinaryOperator;
+
+/**
+ * The eight symmetries of the square board (the dihedral group D4). Board states that are
+ * rotations or reflections of each other are equivalent with respect to the game rules, so they
+ * can share one canonical representative, e.g. in the transposition tables.
+ * <p>
+ * The canonical representative of a board state is the one with the lowest
+ * {@link BoardState#packed() packed} value among all its symmetric images. A move found for the
+ * canonical representative is mapped back to the original board by the {@link #inverse()} of the
+ * applied transform.
+ * </p>
+ * <pre>
+ *   Symmetry transform = Symmetry.canonicalize(state);
+ *   BoardState canonical = transform.apply(state);
+ *   int cell = transform.inverse().mapCell(bestMoveOf(canonical));
+ * </pre>
+ */
+public enum Symmetry {
+
+  IDENTITY((row, column) -> 3 * row + column),
+  ROTATE_90((row, column) -> 3 * column + (2 - row)),
+  ROTATE_180((row, column) -> 3 * (2 - row) + (2 - column)),
+  ROTATE_270((row, column) -> 3 * (2 - column) + row),
+  FLIP_HORIZONTAL((row, column) -> 3 * row + (2 - column)),
+  FLIP_VERTICAL((row, column) -> 3 * (2 - row) + column),
+  TRANSPOSE((row, column) -> 3 * column + row),
+  ANTI_TRANSPOSE((row, column) -> 3 * (2 - column) + (2 - row));
+
+  private static final Symmetry[] VALUES = values();
+
+  private final int[] cells = new int[Cells.SIZE];
+  private final int[] masks = new int[1 << Cells.SIZE];
+
+  Symmetry(IntBinaryOperator mapping) {
+    for (int cell = 0; cell < Cells.SIZE; cell++) {
+      cells[cell] = mapping.applyAsInt(cell / 3, cell % 3);
+    }
+
+    for (int mask = 0; mask < masks.length; mask++) {
+      int mapped = 0;
+      for (int cell = 0; cell < Cells.SIZE; cell++) {
+        if ((mask & (1 << cell)) != 0) {
+          mapped |= 1 << cells[cell];
+        }
+      }
+      masks[mask] = mapped;
+    }
+  }
+
+  /**
+   * Gets the transform that reverts this transform.
+   *
+   * @return the inverse transform
+   */
+  public Symmetry inverse() {
+    return switch (this) {
+      case ROTATE_90 -> ROTATE_270;
+      case ROTATE_270 -> ROTATE_90;
+      default -> this;
+    };
+  }
+
+  /**
+   * Maps a cell index through this transform.
+   *
+   * @param cell the cell index
+   * @return the index of the cell the given cell is moved to
+   */
+  public int mapCell(int cell) {
+    return cells[Cells.checkIndex(cell)];
+  }
+
+  /**
+   * Maps a position through this transform.
+   *
+   * @param position the position
+   * @return the position the given position is moved to
+   */
+  public Position map(Position position) {
+    return Position.ofIndex(cells[position.index()]);
+  }
+
+  /**
+   * Maps a 9-bit cell mask, e.g. a mask of moves, through this transform.
+   *
+   * @param mask the cell mask
+   * @return the mapped mask
+   */
+  public int mapMask(int mask) {
+    return masks[mask & Cells.MASK];
+  }
+
+  /**
+   * Applies this transform to a packed board.
+   *
+   * @param packed the packed board
+   * @return the packed transformed board
+   */
+  public int apply(int packed) {
+    return masks[Cells.xMask(packed)] | (masks[Cells.oMask(packed)] << Cells.O_SHIFT);
+  }
+
+  /**
+   * Applies this transform to a board state.
+   *
+   * @param state the board state
+   * @return the transformed board state
+   */
+  public BoardState apply(BoardState state) {
+    return BoardState.ofPacked(apply(state.packed()));
+  }
+
+  /**
+   * Finds the transform which maps the board state to its canonical representative.
+   *
+   * @param state the board state
+   * @return the transform to apply to get the canonical representative
+   */
+  public static Symmetry canonicalize(BoardState state) {
+    int packed = state.packed();
+    Symmetry best = IDENTITY;
+    int bestPacked = packed;
+
+    for (Symmetry symmetry : VALUES) {
+      int transformed = symmetry.apply(packed);
+      if (transformed < bestPacked) {
+        best = symmetry;
+        bestPacked = transformed;
+      }
+    }
+
+    return best;
+  }
+
+  /**
+   * Gets the canonical representative of the packed board.
+   *
+   * @param packed the packed board
+   * @return the lowest packed value among all symmetric images of the board
+   */
+  public static int canonical(int packed) {
+    int best = packed;
+
+    for (Symmetry symmetry : VALUES) {
+      best = Math.min(best, symmetry.apply(packed));
+    }
+
+    return best;
+  }
+
+  /**
+   * Gets the canonical representative of the board state.
+   *
+   * @param state the board state
+   * @return the canonical representative
+   */
+  public static BoardState canonical(BoardState state) {
+    return BoardState.ofPacked(canonical(state.packed()));
+  }
+}
@@ -0,0 +1,123 @@
+package bakeit.club.tictactoe.game;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * A read-only endgame tablebase holding the perfect-play results of every reachable position. The
+ * tablebase file is memory-mapped, so opening it is instant, the lookups do not allocate and the
+ * data are shared among processes through the operating system's page cache.
+ * <p>
+ * The file starts with a header of three big-endian {@code int}s: the magic number
+ * {@code 0x54544254}, the format version and the number of entries. The header is followed by one
+ * 4-byte entry for every {@link BoardState#code() board state code}:
+ * </p>
+ * <ul>
+ *   <li>1 byte - the outcome for the player on the move: {@code 0} for an unreachable position,
+ *   then {@code 1} victory, {@code 2} defeat and {@code 3} draw</li>
+ *   <li>1 byte - the number of moves until the end of the game with perfect play</li>
+ *   <li>2 bytes - the mask of the optimal moves, the bit {@code i} stands for the cell index
+ *   {@code i}</li>
+ * </ul>
+ *
+ * @see TablebaseGenerator
+ */
+public class Tablebase {
+
+  static final int MAGIC = 0x54544254;
+  static final int VERSION = 1;
+  static final int HEADER_SIZE = 3 * 4;
+  static final int ENTRY_SIZE = 4;
+
+  static final byte UNREACHABLE = 0;
+  static final byte VICTORY = 1;
+  static final byte DEFEAT = 2;
+  static final byte DRAW = 3;
+
+  private final ByteBuffer data;
+
+  private Tablebase(ByteBuffer data) {
+    this.data = data;
+  }
+
+  /**
+   * Memory-maps the tablebase file.
+   *
+   * @param path the path of the tablebase file
+   * @return the tablebase
+   * @throws IOException If the file cannot be read.
+   * @throws IllegalArgumentException If the file is not a valid tablebase.
+   */
+  public static Tablebase open(Path path) throws IOException {
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      long expectedSize = HEADER_SIZE + (long) BoardState.COUNT * ENTRY_SIZE;
+      if (channel.size() != expectedSize) {
+        throw new IllegalArgumentException("The file '" + path + "' has " + channel.size()
+            + " bytes but " + expectedSize + " bytes were expected.");
+      }
+
+      ByteBuffer data = channel.map(MapMode.READ_ONLY, 0, expectedSize);
+      if (data.getInt(0) != MAGIC || data.getInt(4) != VERSION
+          || data.getInt(8) != BoardState.COUNT) {
+        throw new IllegalArgumentException("The file '" + path + "' is not a valid tablebase.");
+      }
+
+      return new Tablebase(data);
+    }
+  }
+
+  /**
+   * Checks whether the position can be reached in a game.
+   *
+   * @param state the board state
+   * @return {@code true} if the position is in the tablebase
+   */
+  public boolean contains(BoardState state) {
+    return data.get(offset(state)) != UNREACHABLE;
+  }
+
+  /**
+   * Gets the result of the game with perfect play.
+   *
+   * @param state the board state
+   * @return the result from the perspective of the player on the move
+   * @throws IllegalArgumentException If the position is not reachable.
+   */
+  public PlayersResult value(BoardState state) {
+    return switch (data.get(offset(state))) {
+      case VICTORY -> PlayersResult.VICTORY;
+      case DEFEAT -> PlayersResult.DEFEAT;
+      case DRAW -> PlayersResult.DRAW;
+      default -> throw new IllegalArgumentException("Unreachable position: " + state);
+    };
+  }
+
+  /**
+   * Gets the number of moves until the end of the game with perfect play.
+   *
+   * @param state the board state
+   * @return the number of moves, zero if the game has already ended
+   */
+  public int distance(BoardState state) {
+    return data.get(offset(state) + 1);
+  }
+
+  /**
+   * Gets the optimal moves.
+   *
+   * @param state the board state
+   * @return the mask of optimal cells where the bit {@code i} stands for the cell index {@code i},
+   * zero if the game has already ended
+   */
+  public int optimalMoves(BoardState state) {
+    return data.getShort(offset(state) + 2) & Cells.MASK;
+  }
+
+  private static int offset(BoardState state) {
+    return HEADER_SIZE + state.code() * ENTRY_SIZE;
+  }
+}
@@ -0,0 +1,91 @@
+package bakeit.club.tictactoe.game;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Generates the {@link Tablebase} file by solving every reachable position.
+ */
+public class TablebaseGenerator {
+
+  private final Solver solver;
+
+  public TablebaseGenerator() {
+    this(new Solver());
+  }
+
+  public TablebaseGenerator(Solver solver) {
+    this.solver = solver;
+  }
+
+  public static void main(String[] args) throws IOException {
+    if (args.length != 1) {
+      System.out.println("Usage: TablebaseGenerator <output-file>");
+      System.exit(1);
+    }
+
+    int count = new TablebaseGenerator().generate(Path.of(args[0]));
+    System.out.println("Tablebase with " + count + " positions written to " + args[0]);
+  }
+
+  /**
+   * Writes the tablebase to the given file. An existing file is replaced.
+   *
+   * @param path the path of the tablebase file
+   * @return the number of reachable positions written to the file
+   * @throws IOException If the file cannot be written.
+   */
+  public int generate(Path path) throws IOException {
+    ByteBuffer buffer = ByteBuffer.allocate(
+        Tablebase.HEADER_SIZE + BoardState.COUNT * Tablebase.ENTRY_SIZE);
+    buffer.putInt(Tablebase.MAGIC);
+    buffer.putInt(Tablebase.VERSION);
+    buffer.putInt(BoardState.COUNT);
+
+    int count = 0;
+    for (int code = 0; code < BoardState.COUNT; code++) {
+      BoardState state = BoardState.ofCode(code);
+      if (Rules.isReachable(state.packed())) {
+        putEntry(buffer, state);
+        count++;
+      } else {
+        buffer.putInt(0);
+      }
+    }
+
+    buffer.flip();
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+        StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+      while (buffer.hasRemaining()) {
+        channel.write(buffer);
+      }
+    }
+
+    return count;
+  }
+
+  private void putEntry(ByteBuffer buffer, BoardState state) {
+    int empty = Cells.SIZE - Integer.bitCount(Cells.occupied(state.packed()));
+    int score = solver.score(state);
+
+    byte outcome;
+    int distance;
+    if (score > 0) {
+      outcome = Tablebase.VICTORY;
+      distance = empty - (score - 1);
+    } else if (score < 0) {
+      outcome = Tablebase.DEFEAT;
+      distance = empty - (-score - 1);
+    } else {
+      outcome = Tablebase.DRAW;
+      distance = empty;
+    }
+
+    buffer.put(outcome);
+    buffer.put((byte) distance);
+    buffer.putShort((short) solver.optimalMoves(state));
+  }
+}
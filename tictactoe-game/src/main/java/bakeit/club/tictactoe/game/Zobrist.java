@@ -0,0 +1,76 @@
+package bakeit.club.tictactoe.game;
+
+import java.util.SplittableRandom;
+
+/**
+ * Zobrist hashing of the board positions. Every combination of a cell and a marker has its own
+ * random 64-bit key and the hash of a position is the XOR of the keys of all occupied cells and,
+ * when {@link Marker#O} is on the move, of the side key. The hash can therefore be updated
+ * incrementally by a single XOR per placed or removed marker.
+ * <p>
+ * The keys are generated from a fixed seed, so the hashes are stable across processes and can be
+ * persisted.
+ * </p>
+ */
+public final class Zobrist {
+
+  private static final long[] X_KEYS = new long[Cells.SIZE];
+  private static final long[] O_KEYS = new long[Cells.SIZE];
+  private static final long SIDE_KEY;
+
+  static {
+    SplittableRandom random = new SplittableRandom(0x7A0B_5715_7AC7_AC70L);
+    for (int cell = 0; cell < Cells.SIZE; cell++) {
+      X_KEYS[cell] = random.nextLong();
+      O_KEYS[cell] = random.nextLong();
+    }
+    SIDE_KEY = random.nextLong();
+  }
+
+  private Zobrist() {
+  }
+
+  /**
+   * Gets the key of a marker placed at a cell.
+   *
+   * @param cell   the cell index
+   * @param marker the marker, either {@link Marker#X} or {@link Marker#O}
+   * @return the key, zero for the {@link Marker#EMPTY} marker
+   */
+  public static long key(int cell, Marker marker) {
+    return switch (marker) {
+      case X -> X_KEYS[cell];
+      case O -> O_KEYS[cell];
+      case EMPTY -> 0;
+    };
+  }
+
+  /**
+   * Gets the key toggled whenever the side to move changes.
+   *
+   * @return the side key
+   */
+  public static long sideKey() {
+    return SIDE_KEY;
+  }
+
+  /**
+   * Computes the hash of a packed board from scratch.
+   *
+   * @param packed the packed board
+   * @return the Zobrist hash including the side to move
+   */
+  public static long hash(int packed) {
+    long hash = Rules.sideToMove(packed) == Marker.O ? SIDE_KEY : 0;
+
+    for (int cell = 0; cell < Cells.SIZE; cell++) {
+      if ((packed & (1 << cell)) != 0) {
+        hash ^= X_KEYS[cell];
+      } else if ((packed & (1 << (cell + Cells.O_SHIFT))) != 0) {
+        hash ^= O_KEYS[cell];
+      }
+    }
+
+    return hash;
+  }
+}
@@ -0,0 +1,331 @@
+package bakeit.club.tictactoe.game.mnk;
+
+import bakeit.club.tictactoe.game.GameStatus;
+import bakeit.club.tictactoe.game.Marker;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * A Monte Carlo tree search over an {@link MnkBoard}. Every iteration selects a path through the
+ * tree by the UCT formula, expands one new node, plays a random game to its end and propagates
+ * the result back to the root.
+ * <p>
+ * The search is root-parallel: every thread grows its own tree from the same root position and
+ * the move with the most visits summed over all trees is chosen. The trees are kept between
+ * searches, {@link #advance(int)} moves their roots to the subtrees of the played move, so the
+ * work done while searching the previous moves is reused. The additional threads are daemon
+ * threads of a pool owned by the instance, they are started once and stopped by {@link #close()}.
+ * </p>
+ * <p>
+ * An instance is not thread-safe, it is meant to be used by one player.
+ * </p>
+ */
+public class Mcts implements AutoCloseable {
+
+  private final MctsSettings settings;
+  private final MnkBoard position;
+  private final Tree[] trees;
+  private final ExecutorService executor;
+
+  /**
+   * Creates the search starting from the given position.
+   *
+   * @param position the root position, it is copied
+   * @param settings the search settings
+   */
+  public Mcts(MnkBoard position, MctsSettings settings) {
+    this.settings = settings;
+    this.position = new MnkBoard(position.rows(), position.columns(), position.winLength());
+    this.position.copyFrom(position);
+    this.trees = new Tree[settings.threads()];
+
+    SplittableRandom seeds = new SplittableRandom();
+    for (int i = 0; i < trees.length; i++) {
+      trees[i] = new Tree(seeds.split());
+    }
+
+    this.executor = trees.length == 1 ? null : Executors.newFixedThreadPool(
+        trees.length - 1, Thread.ofPlatform().daemon().name("mcts-", 0).factory());
+  }
+
+  /**
+   * Sets the root position and discards the trees.
+   *
+   * @param position the new root position, it is copied
+   */
+  public void setPosition(MnkBoard position) {
+    this.position.copyFrom(position);
+    for (Tree tree : trees) {
+      tree.root = new Node(-1, position.sideToMove() == Marker.X ? Marker.O : Marker.X);
+    }
+  }
+
+  /**
+   * Gets the current root position.
+   *
+   * @return the root position, it must not be modified
+   */
+  public MnkBoard position() {
+    return position;
+  }
+
+  /**
+   * Applies a move to the root position and reuses the corresponding subtrees.
+   *
+   * @param cell the cell index of the move
+   */
+  public void advance(int cell) {
+    Marker mover = position.sideToMove();
+    position.placeMarker(cell, mover);
+
+    for (Tree tree : trees) {
+      Node next = tree.root.child(cell);
+      if (next == null) {
+        next = new Node(cell, mover);
+      }
+      next.parent = null;
+      tree.root = next;
+    }
+  }
+
+  /**
+   * Searches the root position within the budget of the settings.
+   *
+   * @return the cell index of the best move found
+   * @throws IllegalStateException If the game in the root position has already ended.
+   */
+  public int search() {
+    if (position.getStatus().isEnded()) {
+      throw new IllegalStateException("The game has already ended.");
+    }
+
+    long deadline = System.nanoTime() + saturatedNanos();
+    long iterations = Math.max(1, settings.maxIterations() / trees.length);
+
+    if (trees.length == 1) {
+      trees[0].grow(deadline, iterations);
+    } else {
+      Future<?>[] futures = new Future<?>[trees.length - 1];
+      for (int i = 0; i < futures.length; i++) {
+        Tree tree = trees[i + 1];
+        futures[i] = executor.submit(() -> tree.grow(deadline, iterations));
+      }
+
+      trees[0].grow(deadline, iterations);
+
+      for (Future<?> future : futures) {
+        try {
+          future.get();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          throw new IllegalStateException("Interrupted while searching.", e);
+        } catch (ExecutionException e) {
+          throw new IllegalStateException("The search has failed.", e.getCause());
+        }
+      }
+    }
+
+    return bestMove();
+  }
+
+  /**
+   * Gets the number of visits of a move summed over all trees.
+   *
+   * @param cell the cell index of the move
+   * @return the number of times the move was explored
+   */
+  public long visits(int cell) {
+    long visits = 0;
+    for (Tree tree : trees) {
+      Node child = tree.root.child(cell);
+      if (child != null) {
+        visits += child.visits;
+      }
+    }
+    return visits;
+  }
+
+  /**
+   * Stops the threads of the parallel search and waits for them to terminate. The instance must
+   * not be used afterwards.
+   */
+  @Override
+  public void close() {
+    if (executor != null) {
+      executor.close();
+    }
+  }
+
+  private int bestMove() {
+    int best = -1;
+    long bestVisits = -1;
+
+    for (int cell = 0; cell < position.cellCount(); cell++) {
+      if (position.getMarker(cell) == Marker.EMPTY) {
+        long visits = visits(cell);
+        if (visits > bestVisits) {
+          best = cell;
+          bestVisits = visits;
+        }
+      }
+    }
+
+    return best;
+  }
+
+  private long saturatedNanos() {
+    try {
+      return settings.timeBudget().toNanos();
+    } catch (ArithmeticException e) {
+      return Long.MAX_VALUE / 2;
+    }
+  }
+
+  private final class Tree {
+
+    private final SplittableRandom random;
+    private final MnkBoard board;
+    private final int[] empty;
+    private Node root;
+
+    Tree(SplittableRandom random) {
+      this.random = random;
+      this.board = new MnkBoard(position.rows(), position.columns(), position.winLength());
+      this.empty = new int[position.cellCount()];
+      this.root = new Node(-1, position.sideToMove() == Marker.X ? Marker.O : Marker.X);
+    }
+
+    void grow(long deadline, long iterations) {
+      for (long i = 0; i < iterations && deadline - System.nanoTime() > 0; i++) {
+        iterate();
+      }
+    }
+
+    private void iterate() {
+      board.copyFrom(position);
+      Node node = root;
+
+      while (node.isExpanded() && node.childCount > 0 && !board.getStatus().isEnded()) {
+        node = node.select(settings.exploration());
+        board.placeMarker(node.move, node.mover);
+      }
+
+      if (!board.getStatus().isEnded()) {
+        if (node.untried == null) {
+          node.untried = emptyCells();
+          node.untriedCount = node.untried.length;
+          node.children = new Node[node.untriedCount];
+        }
+
+        if (node.untriedCount > 0) {
+          int pick = random.nextInt(node.untriedCount);
+          int cell = node.untried[pick];
+          node.untried[pick] = node.untried[--node.untriedCount];
+
+          Marker mover = board.sideToMove();
+          board.placeMarker(cell, mover);
+          node = node.addChild(cell, mover);
+        }
+      }
+
+      GameStatus status = rollout();
+
+      for (Node current = node; current != null; current = current.parent) {
+        current.visits++;
+        if (status == GameStatus.DRAW) {
+          current.reward += 0.5;
+        } else if (status.winner() == current.mover) {
+          current.reward += 1;
+        }
+      }
+    }
+
+    private GameStatus rollout() {
+      int count = 0;
+      for (int cell = 0; cell < board.cellCount(); cell++) {
+        if (board.getMarker(cell) == Marker.EMPTY) {
+          empty[count++] = cell;
+        }
+      }
+
+      while (!board.getStatus().isEnded()) {
+        int pick = random.nextInt(count);
+        int cell = empty[pick];
+        empty[pick] = empty[--count];
+        board.placeMarker(cell, board.sideToMove());
+      }
+
+      return board.getStatus();
+    }
+
+    private int[] emptyCells() {
+      int[] cells = new int[board.emptyCount()];
+      int count = 0;
+      for (int cell = 0; cell < board.cellCount(); cell++) {
+        if (board.getMarker(cell) == Marker.EMPTY) {
+          cells[count++] = cell;
+        }
+      }
+      return cells;
+    }
+  }
+
+  private static final class Node {
+
+    private final int move;
+    private final Marker mover;
+    private Node parent;
+    private Node[] children;
+    private int childCount;
+    private int[] untried;
+    private int untriedCount;
+    private long visits;
+    private double reward;
+
+    Node(int move, Marker mover) {
+      this.move = move;
+      this.mover = mover;
+    }
+
+    boolean isExpanded() {
+      return untried != null && untriedCount == 0;
+    }
+
+    Node addChild(int cell, Marker childMover) {
+      Node child = new Node(cell, childMover);
+      child.parent = this;
+      children[childCount++] = child;
+      return child;
+    }
+
+    Node child(int cell) {
+      for (int i = 0; i < childCount; i++) {
+        if (children[i].move == cell) {
+          return children[i];
+        }
+      }
+      return null;
+    }
+
+    Node select(double exploration) {
+      double logVisits = Math.log(visits);
+      Node best = null;
+      double bestValue = Double.NEGATIVE_INFINITY;
+
+      for (int i = 0; i < childCount; i++) {
+        Node child = children[i];
+        double value = child.reward / child.visits
+            + exploration * Math.sqrt(logVisits / child.visits);
+        if (value > bestValue) {
+          best = child;
+          bestValue = value;
+        }
+      }
+
+      return best;
+    }
+  }
+}
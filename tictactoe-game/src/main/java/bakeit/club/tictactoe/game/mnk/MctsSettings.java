@@ -0,0 +1,80 @@
+package bakeit.club.tictactoe.game.mnk;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Duration;
+
+/**
+ * The settings of the {@link Mcts} search. A search stops when either of the budgets is exhausted.
+ *
+ * @param timeBudget    the maximum duration of one search
+ * @param maxIterations the maximum number of iterations of one search summed over all threads
+ * @param threads       the number of threads searching their own trees in parallel
+ * @param exploration   the exploration constant of the UCT formula
+ */
+public record MctsSettings(
+    Duration timeBudget,
+    long maxIterations,
+    int threads,
+    double exploration
+) {
+
+  /**
+   * The exploration constant {@code sqrt(2)} which is the theoretical optimum for rewards in the
+   * range {@code <0, 1>}.
+   */
+  public static final double DEFAULT_EXPLORATION = Math.sqrt(2);
+
+  public MctsSettings {
+    requireNonNull(timeBudget);
+
+    if (timeBudget.isNegative() || timeBudget.isZero()) {
+      throw new IllegalArgumentException("Value 'timeBudget=" + timeBudget + "' must be positive");
+    }
+
+    if (maxIterations < 1) {
+      throw new IllegalArgumentException(
+          "Value 'maxIterations=" + maxIterations + "' must be positive");
+    }
+
+    if (threads < 1) {
+      throw new IllegalArgumentException("Value 'threads=" + threads + "' must be positive");
+    }
+
+    if (!Double.isFinite(exploration) || exploration < 0) {
+      throw new IllegalArgumentException(
+          "Value 'exploration=" + exploration + "' must be finite and non-negative");
+    }
+  }
+
+  /**
+   * Creates single-threaded settings bounded only by the time budget.
+   *
+   * @param timeBudget the maximum duration of one search
+   * @return the settings
+   */
+  public static MctsSettings ofTime(Duration timeBudget) {
+    return new MctsSettings(timeBudget, Long.MAX_VALUE, 1, DEFAULT_EXPLORATION);
+  }
+
+  /**
+   * Creates single-threaded settings bounded only by the number of iterations.
+   *
+   * @param maxIterations the maximum number of iterations of one search
+   * @return the settings
+   */
+  public static MctsSettings ofIterations(long maxIterations) {
+    return new MctsSettings(
+        Duration.ofSeconds(Long.MAX_VALUE), maxIterations, 1, DEFAULT_EXPLORATION);
+  }
+
+  /**
+   * Creates a copy of these settings with the given number of threads.
+   *
+   * @param threads the number of threads searching in parallel
+   * @return the new settings
+   */
+  public MctsSettings withThreads(int threads) {
+    return new MctsSettings(timeBudget, maxIterations, threads, exploration);
+  }
+}
@@ -0,0 +1,337 @@
+package bakeit.club.tictactoe.game.mnk;
+
+import static java.util.Objects.requireNonNull;
+
+import bakeit.club.tictactoe.game.GameStatus;
+import bakeit.club.tictactoe.game.InvalidMove;
+import bakeit.club.tictactoe.game.Marker;
+
+/**
+ * A board of the generalized m,n,k-game: a board with {@code rows x columns} cells where the
+ * player who first places {@code winLength} markers in a row, column or diagonal wins. The classic
+ * tic-tac-toe is the 3,3,3-game, gomoku is the 15,15,5-game.
+ * <p>
+ * The cells are addressed by the index {@code row * columns + column}. Internally each marker has
+ * its own bitboard stored in a {@code long[]}. Every row of the bitboard is padded with one
+ * always-empty bit, so shifting a bitboard by {@code 1}, {@code stride - 1}, {@code stride} or
+ * {@code stride + 1} bits moves every marker to its neighbour in a line and never wraps a line
+ * around the board edge.
+ * </p>
+ */
+public class MnkBoard {
+
+  private final int rows;
+  private final int columns;
+  private final int winLength;
+  private final int stride;
+  private final int[] directions;
+
+  private final long[] xBits;
+  private final long[] oBits;
+  private final long[] scratch;
+  private int xCount;
+  private int oCount;
+  private GameStatus status = GameStatus.IN_PROGRESS;
+
+  /**
+   * Creates an empty board.
+   *
+   * @param rows      the number of rows
+   * @param columns   the number of columns
+   * @param winLength the number of markers in a line needed to win
+   * @throws IllegalArgumentException If the dimensions are not positive or the win length does
+   *                                  not fit the board.
+   */
+  public MnkBoard(int rows, int columns, int winLength) {
+    if (rows < 1 || columns < 1) {
+      throw new IllegalArgumentException(
+          "Invalid board dimensions " + rows + "x" + columns + ", both must be positive.");
+    }
+
+    if (winLength < 1 || winLength > Math.max(rows, columns)) {
+      throw new IllegalArgumentException("Value 'winLength=" + winLength
+          + "' is out of bounds <1, " + Math.max(rows, columns) + ">");
+    }
+
+    this.rows = rows;
+    this.columns = columns;
+    this.winLength = winLength;
+    this.stride = columns + 1;
+    this.directions = new int[]{1, stride - 1, stride, stride + 1};
+
+    int words = (rows * stride + Long.SIZE - 1) / Long.SIZE;
+    this.xBits = new long[words];
+    this.oBits = new long[words];
+    this.scratch = new long[words];
+  }
+
+  public int rows() {
+    return rows;
+  }
+
+  public int columns() {
+    return columns;
+  }
+
+  public int winLength() {
+    return winLength;
+  }
+
+  /**
+   * Gets the number of cells on the board.
+   *
+   * @return {@code rows * columns}
+   */
+  public int cellCount() {
+    return rows * columns;
+  }
+
+  /**
+   * Gets the number of empty cells.
+   *
+   * @return the number of cells without any marker
+   */
+  public int emptyCount() {
+    return cellCount() - xCount - oCount;
+  }
+
+  /**
+   * Gets the marker of the player who is on the move. The player with the {@link Marker#X} marker
+   * always makes the first move.
+   *
+   * @return {@link Marker#X} if both players have placed the same number of markers,
+   * {@link Marker#O} otherwise
+   */
+  public Marker sideToMove() {
+    return xCount <= oCount ? Marker.X : Marker.O;
+  }
+
+  /**
+   * Copies the cells and the status of another board of the same dimensions into this board. The
+   * copy does not allocate, so a scratch board can be reset cheaply from a source position.
+   *
+   * @param other the board to copy
+   * @throws IllegalArgumentException If the boards have different dimensions or win lengths.
+   */
+  public void copyFrom(MnkBoard other) {
+    if (other.rows != rows || other.columns != columns || other.winLength != winLength) {
+      throw new IllegalArgumentException("Cannot copy a " + other.rows + "x" + other.columns
+          + " board with win length " + other.winLength + " to a " + rows + "x" + columns
+          + " board with win length " + winLength);
+    }
+
+    System.arraycopy(other.xBits, 0, xBits, 0, xBits.length);
+    System.arraycopy(other.oBits, 0, oBits, 0, oBits.length);
+    xCount = other.xCount;
+    oCount = other.oCount;
+    status = other.status;
+  }
+
+  /**
+   * Gets a marker at a given cell.
+   *
+   * @param cell the cell index {@code row * columns + column}
+   * @return the marker at the cell
+   */
+  public Marker getMarker(int cell) {
+    int bit = toBit(cell);
+    if (isSet(xBits, bit)) {
+      return Marker.X;
+    } else if (isSet(oBits, bit)) {
+      return Marker.O;
+    } else {
+      return Marker.EMPTY;
+    }
+  }
+
+  /**
+   * Gets a marker at a given position.
+   *
+   * @param row    the zero based row index
+   * @param column the zero based column index
+   * @return the marker at the position
+   */
+  public Marker getMarker(int row, int column) {
+    return getMarker(toCell(row, column));
+  }
+
+  /**
+   * Places a marker to the given cell. Markers can be placed only into empty cells.
+   *
+   * @param cell   the cell index {@code row * columns + column}
+   * @param marker the marker to place
+   * @return the status of the game after the placement
+   * @throws InvalidMove If the move is invalid.
+   */
+  public GameStatus placeMarker(int cell, Marker marker) {
+    requireNonNull(marker);
+
+    if (marker == Marker.EMPTY) {
+      throw new InvalidMove("Cannot empty a cell.");
+    }
+
+    int bit = toBit(cell);
+    if (isSet(xBits, bit) || isSet(oBits, bit)) {
+      throw new InvalidMove("Cell " + cell + " already contains a marker " + getMarker(cell));
+    }
+
+    long[] bits;
+    if (marker == Marker.X) {
+      bits = xBits;
+      xCount++;
+    } else {
+      bits = oBits;
+      oCount++;
+    }
+    bits[bit >>> 6] |= 1L << bit;
+
+    if (!status.isEnded()) {
+      if (isLineThrough(bits, bit)) {
+        status = marker == Marker.X ? GameStatus.X_WON : GameStatus.O_WON;
+      } else if (emptyCount() == 0) {
+        status = GameStatus.DRAW;
+      }
+    }
+
+    return status;
+  }
+
+  /**
+   * Places a marker to the given position.
+   *
+   * @param row    the zero based row index
+   * @param column the zero based column index
+   * @param marker the marker to place
+   * @return the status of the game after the placement
+   * @throws InvalidMove If the move is invalid.
+   * @see #placeMarker(int, Marker)
+   */
+  public GameStatus placeMarker(int row, int column, Marker marker) {
+    return placeMarker(toCell(row, column), marker);
+  }
+
+  /**
+   * Gets the status of the game on this board. The status is updated incrementally on every
+   * placement by checking only the lines passing through the last placed marker. Once the game
+   * has ended the status does not change anymore.
+   *
+   * @return the current status of the game
+   */
+  public GameStatus getStatus() {
+    return status;
+  }
+
+  /**
+   * Checks the whole board for a line of the marker. The check is done by shifting and
+   * intersecting the marker's bitboard in the four line directions, so its cost depends on the
+   * board size and the win length but not on the number of markers on the board.
+   *
+   * @param marker the marker to check
+   * @return {@code true} if there are at least {@code winLength} markers in a line
+   */
+  public boolean hasLine(Marker marker) {
+    long[] bits = switch (requireNonNull(marker)) {
+      case X -> xBits;
+      case O -> oBits;
+      case EMPTY -> throw new IllegalArgumentException("Empty marker cannot make a line.");
+    };
+
+    long occupied = 0;
+    for (long word : bits) {
+      occupied |= word;
+    }
+
+    for (int direction : directions) {
+      System.arraycopy(bits, 0, scratch, 0, bits.length);
+      boolean any = occupied != 0;
+      for (int i = 1; i < winLength && any; i++) {
+        any = shiftRightAndMask(bits, direction * i);
+      }
+
+      if (any) {
+        return true;
+      }
+    }
+
+    return false;
+  }
+
+  /**
+   * Converts the position to the cell index.
+   *
+   * @param row    the zero based row index
+   * @param column the zero based column index
+   * @return the cell index {@code row * columns + column}
+   * @throws IllegalArgumentException If the position is out of the board.
+   */
+  public int toCell(int row, int column) {
+    if (row < 0 || row >= rows) {
+      throw new IllegalArgumentException(
+          "Value 'row=" + row + "' is out of bounds <0, " + (rows - 1) + ">");
+    }
+
+    if (column < 0 || column >= columns) {
+      throw new IllegalArgumentException(
+          "Value 'column=" + column + "' is out of bounds <0, " + (columns - 1) + ">");
+    }
+
+    return row * columns + column;
+  }
+
+  private int toBit(int cell) {
+    if (cell < 0 || cell >= cellCount()) {
+      throw new IllegalArgumentException(
+          "Value 'cell=" + cell + "' is out of bounds <0, " + (cellCount() - 1) + ">");
+    }
+
+    return (cell / columns) * stride + cell % columns;
+  }
+
+  /**
+   * Intersects the scratch bitboard with the source bitboard shifted right by the given number of
+   * bits.
+   *
+   * @return {@code true} if the intersection is not empty
+   */
+  private boolean shiftRightAndMask(long[] source, int shift) {
+    int wordShift = shift >>> 6;
+    int bitShift = shift & 63;
+    long any = 0;
+
+    for (int word = 0; word < scratch.length; word++) {
+      int from = word + wordShift;
+      long shifted = from < source.length ? source[from] >>> bitShift : 0;
+      if (bitShift != 0 && from + 1 < source.length) {
+        shifted |= source[from + 1] << (Long.SIZE - bitShift);
+      }
+
+      scratch[word] &= shifted;
+      any |= scratch[word];
+    }
+
+    return any != 0;
+  }
+
+  private boolean isLineThrough(long[] bits, int bit) {
+    for (int direction : directions) {
+      int count = 1;
+      for (int next = bit + direction; next < rows * stride && isSet(bits, next);
+          next += direction) {
+        count++;
+      }
+      for (int next = bit - direction; next >= 0 && isSet(bits, next); next -= direction) {
+        count++;
+      }
+
+      if (count >= winLength) {
+        return true;
+      }
+    }
+
+    return false;
+  }
+
+  private static boolean isSet(long[] bits, int bit) {
+    return (bits[bit >>> 6] & (1L << bit)) != 0;
+  }
+}
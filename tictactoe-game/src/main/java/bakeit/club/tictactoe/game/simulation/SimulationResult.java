@@ -0,0 +1,46 @@
+package bakeit.club.tictactoe.game.simulation;
+
+/**
+ * The result of a simulation. The wins are counted by the marker of the winning strategy.
+ *
+ * @param games        the number of simulated games
+ * @param elapsedNanos the wall-clock duration of the simulation in nanoseconds
+ * @param xWins        the number of games won by the strategy playing with the X marker
+ * @param oWins        the number of games won by the strategy playing with the O marker
+ * @param draws        the number of drawn games
+ * @param xStatistics  the move statistics of the strategy playing with the X marker
+ * @param oStatistics  the move statistics of the strategy playing with the O marker
+ */
+public record SimulationResult(
+    long games,
+    long elapsedNanos,
+    long xWins,
+    long oWins,
+    long draws,
+    StrategyStatistics xStatistics,
+    StrategyStatistics oStatistics
+) {
+
+  /**
+   * Gets the throughput of the simulation.
+   *
+   * @return the number of simulated games per second
+   */
+  public double gamesPerSecond() {
+    return elapsedNanos == 0 ? 0 : games * 1_000_000_000.0 / elapsedNanos;
+  }
+
+  @Override
+  public String toString() {
+    return String.format(
+        "%d games in %.3f s (%.0f games/s): X won %.2f%%, O won %.2f%%, draw %.2f%%;"
+            + " X %.0f ns/move, O %.0f ns/move",
+        games, elapsedNanos / 1e9, gamesPerSecond(),
+        percent(xWins), percent(oWins), percent(draws),
+        xStatistics.averageMoveNanos(), oStatistics.averageMoveNanos());
+  }
+
+  private double percent(long count) {
+    return games == 0 ? 0 : 100.0 * count / games;
+  }
+}
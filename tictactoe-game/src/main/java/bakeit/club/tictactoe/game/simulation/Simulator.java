@@ -0,0 +1,169 @@
+package bakeit.club.tictactoe.game.simulation;
+
+import bakeit.club.tictactoe.game.BoardState;
+import bakeit.club.tictactoe.game.SearchBoard;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A headless simulator playing many games between two strategies. The games are split into
+ * batches executed by a work-stealing {@link ForkJoinPool}, every worker thread plays its games on
+ * its own reused {@link SearchBoard}, so the simulation does not allocate per game or per move.
+ */
+public class Simulator {
+
+  private static final long BATCH_SIZE = 4096;
+
+  private final Strategy xStrategy;
+  private final Strategy oStrategy;
+  private final ThreadLocal<SearchBoard> boards = ThreadLocal.withInitial(SearchBoard::new);
+
+  /**
+   * Creates a simulator.
+   *
+   * @param xStrategy the strategy making the first move with the X marker
+   * @param oStrategy the strategy playing with the O marker
+   */
+  public Simulator(Strategy xStrategy, Strategy oStrategy) {
+    this.xStrategy = xStrategy;
+    this.oStrategy = oStrategy;
+  }
+
+  /**
+   * Simulates the games on all available processors.
+   *
+   * @param games the number of games to play
+   * @return the result of the simulation
+   */
+  public SimulationResult run(long games) {
+    return run(games, Runtime.getRuntime().availableProcessors());
+  }
+
+  /**
+   * Simulates the games.
+   *
+   * @param games       the number of games to play
+   * @param parallelism the number of worker threads
+   * @return the result of the simulation
+   * @throws IllegalStateException If a strategy chooses an illegal move.
+   */
+  public SimulationResult run(long games, int parallelism) {
+    Statistics statistics = new Statistics();
+    ForkJoinPool pool = new ForkJoinPool(parallelism);
+    long start = System.nanoTime();
+    try {
+      pool.invoke(new Batch(0, games, statistics));
+    } finally {
+      pool.shutdown();
+    }
+    long elapsed = System.nanoTime() - start;
+
+    return new SimulationResult(
+        games,
+        elapsed,
+        statistics.xWins.sum(),
+        statistics.oWins.sum(),
+        statistics.draws.sum(),
+        new StrategyStatistics(statistics.xMoves.sum(), statistics.xNanos.sum()),
+        new StrategyStatistics(statistics.oMoves.sum(), statistics.oNanos.sum())
+    );
+  }
+
+  private void play(Tally tally) {
+    SearchBoard board = boards.get();
+    board.reset(BoardState.empty());
+
+    boolean xToMove = true;
+    while (!board.status().isEnded()) {
+      Strategy strategy = xToMove ? xStrategy : oStrategy;
+      long start = System.nanoTime();
+      int cell = strategy.chooseMove(board);
+      long duration = System.nanoTime() - start;
+
+      if (cell < 0 || cell > 8 || (board.legalMoves() & (1 << cell)) == 0) {
+        throw new IllegalStateException(
+            "Strategy " + strategy + " has chosen an illegal move " + cell);
+      }
+
+      board.make(cell);
+      if (xToMove) {
+        tally.xMoves++;
+        tally.xNanos += duration;
+      } else {
+        tally.oMoves++;
+        tally.oNanos += duration;
+      }
+      xToMove = !xToMove;
+    }
+
+    switch (board.status()) {
+      case X_WON -> tally.xWins++;
+      case O_WON -> tally.oWins++;
+      default -> tally.draws++;
+    }
+  }
+
+  /**
+   * Thread-confined counters of a batch, added to the shared statistics once per batch.
+   */
+  private static final class Tally {
+
+    long xWins;
+    long oWins;
+    long draws;
+    long xMoves;
+    long xNanos;
+    long oMoves;
+    long oNanos;
+
+    void addTo(Statistics statistics) {
+      statistics.xWins.add(xWins);
+      statistics.oWins.add(oWins);
+      statistics.draws.add(draws);
+      statistics.xMoves.add(xMoves);
+      statistics.xNanos.add(xNanos);
+      statistics.oMoves.add(oMoves);
+      statistics.oNanos.add(oNanos);
+    }
+  }
+
+  private static final class Statistics {
+
+    final LongAdder xWins = new LongAdder();
+    final LongAdder oWins = new LongAdder();
+    final LongAdder draws = new LongAdder();
+    final LongAdder xMoves = new LongAdder();
+    final LongAdder xNanos = new LongAdder();
+    final LongAdder oMoves = new LongAdder();
+    final LongAdder oNanos = new LongAdder();
+  }
+
+  private final class Batch extends RecursiveAction {
+
+    private final long from;
+    private final long to;
+    private final Statistics statistics;
+
+    Batch(long from, long to, Statistics statistics) {
+      this.from = from;
+      this.to = to;
+      this.statistics = statistics;
+    }
+
+    @Override
+    protected void compute() {
+      if (to - from > BATCH_SIZE) {
+        long middle = (from + to) >>> 1;
+        invokeAll(new Batch(from, middle, statistics), new Batch(middle, to, statistics));
+        return;
+      }
+
+      Tally tally = new Tally();
+      for (long game = from; game < to; game++) {
+        play(tally);
+      }
+      tally.addTo(statistics);
+    }
+  }
+}
@@ -0,0 +1,48 @@
+package bakeit.club.tictactoe.game.simulation;
+
+import bakeit.club.tictactoe.game.SearchBoard;
+import bakeit.club.tictactoe.game.Solver;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * A strategy of a simulated player. Strategies are called concurrently from the simulator threads,
+ * so they must be thread-safe.
+ */
+@FunctionalInterface
+public interface Strategy {
+
+  /**
+   * Chooses the next move. The strategy may make and unmake moves on the board while searching,
+   * but it has to leave the board in the position it received.
+   *
+   * @param board the current position, the game is in progress
+   * @return the cell index of the chosen move, one of the {@link SearchBoard#legalMoves()}
+   */
+  int chooseMove(SearchBoard board);
+
+  /**
+   * A strategy choosing uniformly from the legal moves.
+   *
+   * @return the random strategy
+   */
+  static Strategy random() {
+    return board -> {
+      int moves = board.legalMoves();
+      int pick = ThreadLocalRandom.current().nextInt(Integer.bitCount(moves));
+      for (int i = 0; i < pick; i++) {
+        moves = SearchBoard.nextMoves(moves);
+      }
+      return SearchBoard.firstMove(moves);
+    };
+  }
+
+  /**
+   * A strategy choosing the first of the optimal moves found by the solver.
+   *
+   * @param solver the solver
+   * @return the perfect-play strategy
+   */
+  static Strategy perfect(Solver solver) {
+    return board -> SearchBoard.firstMove(solver.optimalMoves(board.toBoardState()));
+  }
+}
@@ -0,0 +1,22 @@
+package bakeit.club.tictactoe.game.simulation;
+
+/**
+ * The move statistics of a strategy in a simulation.
+ *
+ * @param moves      the number of moves the strategy has made
+ * @param moveNanos  the total time spent choosing the moves in nanoseconds
+ */
+public record StrategyStatistics(
+    long moves,
+    long moveNanos
+) {
+
+  /**
+   * Gets the average move latency.
+   *
+   * @return the average time spent choosing a move in nanoseconds
+   */
+  public double averageMoveNanos() {
+    return moves == 0 ? 0 : (double) moveNanos / moves;
+  }
+}
@@ -0,0 +1,108 @@
+package bakeit.club.tictactoe.game;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class AsyncGameTest {
+
+  private ExecutorService eventLoop;
+
+  @BeforeEach
+  void setUp() {
+    eventLoop = Executors.newSingleThreadExecutor();
+  }
+
+  @AfterEach
+  void tearDown() {
+    eventLoop.shutdownNow();
+  }
+
+  @Test
+  void playWithInvalidMoveRepeatsMoveRequest() {
+    TestPlayer player1 = new TestPlayer(
+        "player-1",
+        List.of(new Position(1, 1),
+            new Position(0, 0),
+            new Position(2, 2))
+    );
+    TestPlayer player2 = new TestPlayer(
+        "player-2",
+        List.of(
+            new Position(0, 1),
+            new Position(1, 1), // invalid move that will have to be repeated
+            new Position(0, 2))
+    );
+
+    try (ExecutorService players = Executors.newVirtualThreadPerTaskExecutor()) {
+      AsyncGame cut = new AsyncGame(
+          AsyncPlayer.of(player1, players), AsyncPlayer.of(player2, players), eventLoop);
+
+      GameStatus actual = cut.start().join();
+
+      assertEquals(GameStatus.X_WON, actual);
+      assertEquals(AsyncGame.State.ENDED, cut.getState());
+    }
+
+    assertEquals(new PlayerGameInfo(Marker.X, player2.getName()), player1.playerGameInfo);
+    assertEquals(PlayersResult.VICTORY, player1.result);
+    assertTrue(player1.moves.isEmpty());
+    assertEquals(3, player1.waitOpponentsMove);
+
+    assertEquals(new PlayerGameInfo(Marker.O, player1.getName()), player2.playerGameInfo);
+    assertEquals(PlayersResult.DEFEAT, player2.result);
+    assertTrue(player2.moves.isEmpty());
+    assertEquals(3, player2.waitOpponentsMove);
+  }
+
+  @Test
+  void singleEventLoopDrivesManyGames() {
+    Solver solver = new Solver();
+    List<CompletableFuture<GameStatus>> games = new ArrayList<>();
+
+    for (int i = 0; i < 10_000; i++) {
+      AsyncGame game = new AsyncGame(
+          AsyncPlayer.of(new SolverPlayer("x", solver), Runnable::run),
+          AsyncPlayer.of(new SolverPlayer("o", solver), Runnable::run),
+          eventLoop);
+      games.add(game.start());
+    }
+
+    games.forEach(game -> assertEquals(GameStatus.DRAW, game.join()));
+  }
+
+  @Test
+  void failingPlayerFailsGame() {
+    TestPlayer player1 = new TestPlayer("player-1", List.of());
+    TestPlayer player2 = new TestPlayer("player-2", List.of());
+    AsyncGame cut = new AsyncGame(
+        AsyncPlayer.of(player1, Runnable::run), AsyncPlayer.of(player2, Runnable::run), eventLoop);
+
+    ExecutionException actual = assertThrows(ExecutionException.class, () -> cut.start().get());
+
+    assertInstanceOf(IndexOutOfBoundsException.class, actual.getCause());
+    assertEquals(AsyncGame.State.FAILED, cut.getState());
+  }
+
+  @Test
+  void startTwice() {
+    AsyncGame cut = new AsyncGame(
+        AsyncPlayer.of(new SolverPlayer("x"), Runnable::run),
+        AsyncPlayer.of(new SolverPlayer("o"), Runnable::run),
+        eventLoop);
+    cut.start();
+
+    assertThrows(IllegalStateException.class, cut::start);
+  }
+}
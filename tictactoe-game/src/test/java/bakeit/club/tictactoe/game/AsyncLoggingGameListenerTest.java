@@ -0,0 +1,82 @@
+package bakeit.club.tictactoe.game;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.LongAdder;
+import org.junit.jupiter.api.Test;
+
+class AsyncLoggingGameListenerTest {
+
+  @Test
+  void logsEventsAndCollectsMetrics() throws InterruptedException {
+    List<String> lines = new CopyOnWriteArrayList<>();
+    AsyncLoggingGameListener cut = new AsyncLoggingGameListener(lines::add, 100);
+
+    TestPlayer player1 = new TestPlayer(
+        "player-1",
+        List.of(new Position(1, 1),
+            new Position(0, 0),
+            new Position(2, 2))
+    );
+    TestPlayer player2 = new TestPlayer(
+        "player-2",
+        List.of(
+            new Position(0, 1),
+            new Position(1, 1), // invalid move
+            new Position(0, 2))
+    );
+    new Game(player1, player2, cut.forGame("Game[1]")).play();
+    cut.close();
+
+    assertEquals(new AsyncLoggingGameListener.Metrics(1, 1, 5, 1, 0), cut.metrics());
+    assertEquals(8, lines.size());
+    assertTrue(lines.get(0).endsWith("Game[1] - started player-1 (X) vs player-2 (O)"),
+        lines.get(0));
+    assertTrue(lines.get(4).contains("Game[1] - move rejected O Position[row=1, column=1]"),
+        lines.get(4));
+    assertTrue(lines.get(7).contains("Game[1] - ended X_WON"), lines.get(7));
+  }
+
+  @Test
+  void dropsEventsAfterClose() throws InterruptedException {
+    AsyncLoggingGameListener cut = new AsyncLoggingGameListener(line -> { }, 10);
+    GameListener listener = cut.forGame("Game[1]");
+    cut.close();
+
+    listener.gameStarted("x", "o", 0);
+
+    assertEquals(new AsyncLoggingGameListener.Metrics(1, 0, 0, 0, 1), cut.metrics());
+  }
+
+  @Test
+  void everyEventLoggedOrDroppedWhenClosedConcurrently() throws Exception {
+    LongAdder logged = new LongAdder();
+    AsyncLoggingGameListener cut = new AsyncLoggingGameListener(line -> logged.increment(), 64);
+    GameListener listener = cut.forGame("Game[1]");
+    int threads = 4;
+    int events = 10_000;
+    CountDownLatch started = new CountDownLatch(threads);
+
+    try (ExecutorService games = Executors.newFixedThreadPool(threads)) {
+      for (int i = 0; i < threads; i++) {
+        games.execute(() -> {
+          started.countDown();
+          for (int event = 0; event < events; event++) {
+            listener.gameStarted("x", "o", event);
+          }
+        });
+      }
+
+      started.await();
+      cut.close();
+    }
+
+    assertEquals(threads * events, logged.sum() + cut.metrics().droppedEvents());
+  }
+}
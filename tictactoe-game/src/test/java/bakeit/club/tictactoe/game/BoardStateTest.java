@@ -0,0 +1,87 @@
+package bakeit.club.tictactoe.game;
+
+import static bakeit.club.tictactoe.game.Marker.EMPTY;
+import static bakeit.club.tictactoe.game.Marker.O;
+import static bakeit.club.tictactoe.game.Marker.X;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+class BoardStateTest {
+
+  @Test
+  void packed() {
+    BoardState cut = BoardState.of(
+        X, EMPTY, EMPTY,
+        EMPTY, O, EMPTY,
+        EMPTY, EMPTY, X
+    );
+
+    assertEquals(0b100000001 | (0b000010000 << 9), cut.packed());
+    assertEquals(X, cut.getMarker(new Position(0, 0)));
+    assertEquals(O, cut.getMarker(new Position(1, 1)));
+    assertEquals(EMPTY, cut.getMarker(new Position(2, 1)));
+  }
+
+  @Test
+  void equalsAndHashCode() {
+    BoardState state1 = BoardState.of(X, O, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY);
+    BoardState state2 = BoardState.of(new Marker[]{X, O, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY,
+        EMPTY});
+
+    assertSame(state1, state2);
+    assertEquals(state1.hashCode(), state2.hashCode());
+    assertNotEquals(state1, BoardState.empty());
+  }
+
+  @Test
+  void ofBoard() {
+    Board board = new Board();
+    board.placeMarker(new Position(2, 0), O);
+
+    BoardState actual = BoardState.of(board);
+
+    assertEquals(BoardState.of(EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, O, EMPTY, EMPTY), actual);
+  }
+
+  @Test
+  void withMarker() {
+    BoardState actual = BoardState.empty()
+        .withMarker(new Position(0, 1), X)
+        .withMarker(new Position(2, 2), O);
+
+    assertSame(BoardState.of(EMPTY, X, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, O), actual);
+  }
+
+  @Test
+  void ofCode() {
+    for (int code = 0; code < BoardState.COUNT; code++) {
+      BoardState state = BoardState.ofCode(code);
+
+      assertEquals(code, state.code());
+      assertSame(state, BoardState.ofPacked(state.packed()));
+    }
+  }
+
+  @Test
+  void zobristKey() {
+    BoardState state = BoardState.of(
+        X, EMPTY, EMPTY,
+        EMPTY, O, EMPTY,
+        EMPTY, EMPTY, X
+    );
+
+    assertEquals(Zobrist.key(0, X) ^ Zobrist.key(4, O) ^ Zobrist.key(8, X) ^ Zobrist.sideKey(),
+        state.zobristKey());
+    assertEquals(0, BoardState.empty().zobristKey());
+    assertEquals(Long.hashCode(state.zobristKey()), state.hashCode());
+  }
+
+  @Test
+  void ofPacked_rejectsOverlappingMasks() {
+    assertThrows(IllegalArgumentException.class, () -> BoardState.ofPacked(1 | (1 << 9)));
+  }
+}
@@ -53,6 +53,18 @@ class BoardTest {
     assertEquals(actual.getMessage(), "Position [0, 2] already contains a marker X");
   }
 
+  @Test
+  void placeMarker_updatesStatus() {
+    Board cut = new Board();
+
+    assertEquals(GameStatus.IN_PROGRESS, cut.placeMarker(new Position(0, 0), X));
+    assertEquals(GameStatus.IN_PROGRESS, cut.placeMarker(new Position(1, 0), O));
+    assertEquals(GameStatus.IN_PROGRESS, cut.placeMarker(new Position(0, 1), X));
+    assertEquals(GameStatus.IN_PROGRESS, cut.placeMarker(new Position(1, 1), O));
+    assertEquals(GameStatus.X_WON, cut.placeMarker(new Position(0, 2), X));
+    assertEquals(GameStatus.X_WON, cut.getStatus());
+  }
+
   @ParameterizedTest
   @EnumSource(value = Marker.class, mode = Mode.EXCLUDE, names = "EMPTY")
   void getMarker(Marker marker) {
@@ -0,0 +1,131 @@
+package bakeit.club.tictactoe.game;
+
+import static bakeit.club.tictactoe.game.Marker.EMPTY;
+import static bakeit.club.tictactoe.game.Marker.O;
+import static bakeit.club.tictactoe.game.Marker.X;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.LongBuffer;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class GameRecordTest {
+
+  @Test
+  void encodeAndDecode() {
+    GameRecord cut = new GameRecord();
+    cut.add(Position.of(1, 1));
+    cut.add(Position.of(0, 0));
+    cut.add(Position.of(2, 2));
+
+    long encoded = cut.encode();
+
+    assertEquals(3L << 60 | 8 << 8 | 4, encoded);
+    assertEquals(cut, GameRecord.decode(encoded));
+    assertEquals(3, cut.length());
+    assertEquals(Position.of(0, 0), cut.position(1));
+    assertEquals("GameRecord[4, 0, 8]", cut.toString());
+  }
+
+  @Test
+  void boardAt() {
+    GameRecord cut = new GameRecord();
+    cut.add(Position.of(1, 1));
+    cut.add(Position.of(0, 0));
+    cut.add(Position.of(2, 2));
+
+    assertSame(BoardState.empty(), cut.boardAt(0));
+    assertSame(BoardState.of(
+        O, EMPTY, EMPTY,
+        EMPTY, X, EMPTY,
+        EMPTY, EMPTY, EMPTY
+    ), cut.boardAt(2));
+    assertThrows(IllegalArgumentException.class, () -> cut.boardAt(4));
+  }
+
+  @Test
+  void add_occupiedCell() {
+    GameRecord cut = new GameRecord();
+    cut.add(Position.of(1, 1));
+
+    assertThrows(IllegalStateException.class, () -> cut.add(Position.of(1, 1)));
+  }
+
+  @Test
+  void add_afterWin() {
+    GameRecord cut = new GameRecord();
+    for (int cell : new int[]{0, 3, 1, 4, 2}) {
+      cut.add(Position.ofIndex(cell));
+    }
+
+    assertThrows(IllegalStateException.class, () -> cut.add(Position.of(2, 2)));
+    assertEquals(5, cut.length());
+    assertEquals(cut.encode(), GameRecord.decode(cut.encode()).encode());
+  }
+
+  @Test
+  void isValid() {
+    assertTrue(GameRecord.isValid(0));
+    assertTrue(GameTree.games().allMatch(GameRecord::isValid));
+    // a repeated cell
+    assertFalse(GameRecord.isValid(2L << 60 | 4 << 4 | 4));
+    // a cell out of the board
+    assertFalse(GameRecord.isValid(1L << 60 | 9));
+    // a move stored beyond the length
+    assertFalse(GameRecord.isValid(1L << 60 | 1 << 4));
+    // a move after X has won with 0, 1, 2
+    assertFalse(GameRecord.isValid(GameRecord.append(
+        6L << 60 | 2L << 20 | 4 << 16 | 1 << 8 | 3 << 4, 5)));
+  }
+
+  @Test
+  void replayAll() {
+    long[] games = GameTree.games().toArray();
+    AtomicInteger xWins = new AtomicInteger();
+
+    int count = GameRecord.replayAll(LongBuffer.wrap(games), (game, finalState) -> {
+      if (Rules.status(finalState) == GameStatus.X_WON) {
+        xWins.incrementAndGet();
+      }
+    });
+
+    assertEquals(GameTree.GAME_COUNT, count);
+    assertEquals(131_184, xWins.get());
+  }
+
+  @Test
+  void replayAll_invalidGame() {
+    LongBuffer buffer = LongBuffer.wrap(new long[]{0, 1L << 60 | 9, 0});
+
+    assertThrows(IllegalArgumentException.class, () -> GameRecord.replayAll(buffer, (g, s) -> {
+    }));
+    assertEquals(2, buffer.position());
+  }
+
+  @Test
+  void filledByGame() {
+    TestPlayer player1 = new TestPlayer(
+        "player-1",
+        List.of(new Position(1, 1),
+            new Position(0, 0),
+            new Position(2, 2))
+    );
+    TestPlayer player2 = new TestPlayer(
+        "player-2",
+        List.of(new Position(0, 1),
+            new Position(1, 1), // invalid move is not recorded
+            new Position(0, 2))
+    );
+
+    Game game = new Game(player1, player2);
+    game.play();
+
+    assertEquals("GameRecord[4, 1, 0, 2, 8]", game.getRecord().toString());
+    assertSame(player1.boardState, game.getRecord().boardAt(5));
+  }
+}
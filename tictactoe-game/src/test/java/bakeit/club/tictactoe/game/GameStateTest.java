@@ -0,0 +1,80 @@
+package bakeit.club.tictactoe.game;
+
+import static bakeit.club.tictactoe.game.Marker.EMPTY;
+import static bakeit.club.tictactoe.game.Marker.O;
+import static bakeit.club.tictactoe.game.Marker.X;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class GameStateTest {
+
+  @Test
+  void initial() {
+    GameState cut = GameState.initial();
+
+    assertSame(BoardState.empty(), cut.board());
+    assertEquals(X, cut.sideToMove());
+    assertEquals(GameStatus.IN_PROGRESS, cut.status());
+  }
+
+  @Test
+  void apply() {
+    MoveResult actual = GameState.apply(GameState.initial(), new Move(X, Position.of(1, 1)));
+
+    GameState state = assertInstanceOf(GameState.class, actual);
+    assertSame(BoardState.empty().withMarker(4, X), state.board());
+    assertEquals(O, state.sideToMove());
+    assertSame(state, GameState.of(state.board()));
+  }
+
+  @Test
+  void apply_rejections() {
+    GameState state = (GameState) GameState.initial().apply(new Move(X, Position.of(1, 1)));
+
+    assertSame(MoveRejection.NOT_YOUR_TURN, state.apply(new Move(X, Position.of(0, 0))));
+    assertSame(MoveRejection.OCCUPIED, state.apply(new Move(O, Position.of(1, 1))));
+  }
+
+  @Test
+  void replay() {
+    MoveResult actual = GameState.replay(List.of(
+        new Move(X, Position.of(1, 1)),
+        new Move(O, Position.of(0, 1)),
+        new Move(X, Position.of(0, 0)),
+        new Move(O, Position.of(0, 2)),
+        new Move(X, Position.of(2, 2))
+    ));
+
+    GameState state = assertInstanceOf(GameState.class, actual);
+    assertEquals(GameStatus.X_WON, state.status());
+    assertSame(MoveRejection.GAME_OVER, state.apply(new Move(O, Position.of(2, 0))));
+  }
+
+  @Test
+  void replay_stopsAtFirstRejection() {
+    MoveResult actual = GameState.replay(List.of(
+        new Move(X, Position.of(1, 1)),
+        new Move(O, Position.of(1, 1)),
+        new Move(X, Position.of(0, 0))
+    ));
+
+    assertSame(MoveRejection.OCCUPIED, actual);
+  }
+
+  @Test
+  void of_unreachableBoard() {
+    BoardState board = BoardState.of(X, X, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY);
+
+    assertThrows(IllegalArgumentException.class, () -> GameState.of(board));
+  }
+
+  @Test
+  void move_rejectsEmptyMarker() {
+    assertThrows(IllegalArgumentException.class, () -> new Move(EMPTY, Position.of(0, 0)));
+  }
+}
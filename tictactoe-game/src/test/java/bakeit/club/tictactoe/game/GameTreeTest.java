@@ -0,0 +1,59 @@
+package bakeit.club.tictactoe.game;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+
+class GameTreeTest {
+
+  @Test
+  void games() {
+    assertEquals(GameTree.GAME_COUNT, GameTree.games().count());
+    assertEquals(GameTree.GAME_COUNT, GameTree.games().parallel().count());
+    assertEquals(GameTree.GAME_COUNT, GameTree.games().parallel().distinct().count());
+  }
+
+  @Test
+  void gameResults() {
+    Map<GameStatus, Long> results = GameTree.games()
+        .parallel()
+        .mapToObj(GameTreeTest::replay)
+        .collect(Collectors.groupingBy(Function.identity(), Collectors.counting()));
+
+    assertEquals(Map.of(
+        GameStatus.X_WON, 131_184L,
+        GameStatus.O_WON, 77_904L,
+        GameStatus.DRAW, 46_080L
+    ), results);
+  }
+
+  @Test
+  void positions() {
+    assertEquals(5478, GameTree.positions().count());
+    assertEquals(5478, GameTree.positions().parallel().count());
+  }
+
+  @Test
+  void firstGame() {
+    long game = GameTree.games().findFirst().orElseThrow();
+
+    assertEquals(7, GameRecord.length(game));
+    for (int ply = 0; ply < 7; ply++) {
+      assertEquals(ply, GameRecord.move(game, ply));
+    }
+  }
+
+  private static GameStatus replay(long game) {
+    Board board = new Board();
+    GameStatus status = GameStatus.IN_PROGRESS;
+    for (int ply = 0; ply < GameRecord.length(game); ply++) {
+      assertEquals(GameStatus.IN_PROGRESS, status);
+      status = board.placeMarker(Position.ofIndex(GameRecord.move(game, ply)),
+          ply % 2 == 0 ? Marker.X : Marker.O);
+    }
+    return status;
+  }
+}
@@ -0,0 +1,53 @@
+package bakeit.club.tictactoe.game;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import bakeit.club.tictactoe.game.mnk.MctsSettings;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class MctsPlayerTest {
+
+  @Test
+  void neverLosesAgainstPerfectPlayer() {
+    List<PlayersResult> results = new ArrayList<>();
+
+    try (MctsPlayer cut = new MctsPlayer("mcts",
+        MctsSettings.ofIterations(20_000).withThreads(2))) {
+      for (int i = 0; i < 10; i++) {
+        Player opponent = new SolverPlayer("solver") {
+          @Override
+          public void gameEnded(BoardState boardState, PlayersResult result) {
+            results.add(result);
+          }
+        };
+
+        Game game = i % 2 == 0 ? new Game(cut, opponent) : new Game(opponent, cut);
+        game.play();
+      }
+    }
+
+    assertEquals(10, results.size());
+    results.forEach(result -> assertNotEquals(PlayersResult.VICTORY, result));
+  }
+
+  @Test
+  void closeStopsSearchThreads() {
+    long before = searchThreads();
+    MctsPlayer cut = new MctsPlayer("mcts", MctsSettings.ofIterations(1_000).withThreads(3));
+    cut.gameStarted(new PlayerGameInfo(Marker.X, "opponent"));
+    cut.placeMarker(BoardState.empty());
+
+    assertEquals(before + 2, searchThreads());
+    cut.close();
+    assertEquals(before, searchThreads());
+  }
+
+  private static long searchThreads() {
+    return Thread.getAllStackTraces().keySet().stream()
+        .filter(thread -> thread.getName().startsWith("mcts-"))
+        .count();
+  }
+}
@@ -0,0 +1,71 @@
+package bakeit.club.tictactoe.game;
+
+import static bakeit.club.tictactoe.game.Marker.O;
+import static bakeit.club.tictactoe.game.Marker.X;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class MoveValidationTest {
+
+  @Test
+  void validateMove() {
+    Board board = new Board();
+
+    assertEquals(MoveValidation.VALID, board.validateMove(1, 1, X));
+    assertEquals(MoveValidation.NOT_YOUR_TURN, board.validateMove(1, 1, O));
+    assertEquals(MoveValidation.OUT_OF_RANGE, board.validateMove(3, 0, X));
+    assertEquals(MoveValidation.OUT_OF_RANGE, board.validateMove(0, -1, X));
+
+    board.placeMarker(Position.of(1, 1), X);
+
+    assertEquals(MoveValidation.OCCUPIED, board.validateMove(1, 1, O));
+    assertEquals(MoveValidation.NOT_YOUR_TURN, board.validateMove(0, 0, X));
+    assertEquals(MoveValidation.VALID, board.validateMove(0, 0, O));
+  }
+
+  @Test
+  void validateMove_gameOver() {
+    GameState state = (GameState) GameState.replay(List.of(
+        new Move(X, Position.of(0, 0)),
+        new Move(O, Position.of(1, 0)),
+        new Move(X, Position.of(0, 1)),
+        new Move(O, Position.of(1, 1)),
+        new Move(X, Position.of(0, 2))
+    ));
+
+    assertEquals(MoveValidation.GAME_OVER, state.validate(2, 2, O));
+    assertSame(MoveRejection.GAME_OVER, state.apply(new Move(O, Position.of(2, 2))));
+  }
+
+  @Test
+  void message() {
+    String actual = MoveValidation.message(MoveValidation.OCCUPIED, Position.of(0, 2), O);
+
+    assertEquals(
+        "Invalid move detected for the player playing with 'O': "
+            + "Position [0, 2] is already occupied.",
+        actual);
+    assertSame(actual, MoveValidation.message(MoveValidation.OCCUPIED, Position.of(0, 2), O));
+    assertEquals(
+        "Invalid move detected for the player playing with 'X': "
+            + "Position [5, 1] is out of the board.",
+        MoveValidation.message(MoveValidation.OUT_OF_RANGE, 5, 1, X));
+  }
+
+  @Test
+  void message_validCode() {
+    assertThrows(IllegalArgumentException.class,
+        () -> MoveValidation.message(MoveValidation.VALID, Position.of(0, 0), X));
+  }
+
+  @Test
+  void rejectionCodes() {
+    for (MoveRejection rejection : MoveRejection.values()) {
+      assertSame(rejection, MoveRejection.ofCode(rejection.code()));
+    }
+  }
+}
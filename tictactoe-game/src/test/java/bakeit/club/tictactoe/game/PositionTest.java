@@ -0,0 +1,40 @@
+package bakeit.club.tictactoe.game;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+class PositionTest {
+
+  @Test
+  void ofReturnsCachedInstances() {
+    for (int row = 0; row < 3; row++) {
+      for (int column = 0; column < 3; column++) {
+        Position position = Position.of(row, column);
+
+        assertSame(position, Position.of(row, column));
+        assertSame(position, Position.ofIndex(position.index()));
+        assertEquals(new Position(row, column), position);
+      }
+    }
+  }
+
+  @ParameterizedTest
+  @CsvSource({
+      "0,0,0", "0,2,2", "1,0,3", "2,1,7", "2,2,8"
+  })
+  void index(int row, int column, int expected) {
+    assertEquals(expected, Position.of(row, column).index());
+  }
+
+  @Test
+  void outOfBounds() {
+    assertThrows(IllegalArgumentException.class, () -> Position.of(3, 0));
+    assertThrows(IllegalArgumentException.class, () -> Position.of(0, -1));
+    assertThrows(IllegalArgumentException.class, () -> Position.ofIndex(9));
+  }
+}
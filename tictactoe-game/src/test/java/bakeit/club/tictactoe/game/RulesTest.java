@@ -0,0 +1,105 @@
+package bakeit.club.tictactoe.game;
+
+import static bakeit.club.tictactoe.game.Marker.EMPTY;
+import static bakeit.club.tictactoe.game.Marker.O;
+import static bakeit.club.tictactoe.game.Marker.X;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class RulesTest {
+
+  @Test
+  void status_inProgress() {
+    assertEquals(GameStatus.IN_PROGRESS, Rules.status(BoardState.empty()));
+    assertEquals(GameStatus.IN_PROGRESS, Rules.status(BoardState.of(
+        X, O, X,
+        EMPTY, O, EMPTY,
+        EMPTY, EMPTY, EMPTY
+    )));
+  }
+
+  @Test
+  void status_xWon() {
+    BoardState state = BoardState.of(
+        X, O, O,
+        EMPTY, X, EMPTY,
+        EMPTY, EMPTY, X
+    );
+
+    assertEquals(GameStatus.X_WON, Rules.status(state));
+    assertEquals(X, Rules.status(state).winner());
+  }
+
+  @Test
+  void status_oWon() {
+    BoardState state = BoardState.of(
+        X, X, O,
+        EMPTY, X, O,
+        EMPTY, EMPTY, O
+    );
+
+    assertEquals(GameStatus.O_WON, Rules.status(state));
+  }
+
+  @Test
+  void status_draw() {
+    BoardState state = BoardState.of(
+        X, O, X,
+        X, O, O,
+        O, X, X
+    );
+
+    assertEquals(GameStatus.DRAW, Rules.status(state));
+    assertEquals(EMPTY, Rules.status(state).winner());
+  }
+
+  @Test
+  void statusAfterMove() {
+    BoardState inProgress = BoardState.of(
+        X, O, EMPTY,
+        EMPTY, X, EMPTY,
+        EMPTY, O, EMPTY
+    );
+    BoardState won = BoardState.of(
+        X, O, EMPTY,
+        EMPTY, X, EMPTY,
+        EMPTY, O, X
+    );
+
+    assertEquals(GameStatus.IN_PROGRESS, Rules.statusAfterMove(inProgress.packed(), 4));
+    assertEquals(GameStatus.X_WON, Rules.statusAfterMove(won.packed(), 8));
+  }
+
+  @Test
+  void isReachable() {
+    int count = 0;
+    for (int code = 0; code < BoardState.COUNT; code++) {
+      if (Rules.isReachable(BoardState.ofCode(code).packed())) {
+        count++;
+      }
+    }
+
+    assertEquals(5478, count);
+    assertFalse(Rules.isReachable(BoardState.of(
+        O, EMPTY, EMPTY,
+        EMPTY, EMPTY, EMPTY,
+        EMPTY, EMPTY, EMPTY
+    ).packed()));
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {
+      0b000_000_111, 0b000_111_000, 0b111_000_000,
+      0b001_001_001, 0b010_010_010, 0b100_100_100,
+      0b100_010_001, 0b001_010_100
+  })
+  void hasLine(int line) {
+    assertTrue(Rules.hasLine(line));
+    assertFalse(Rules.hasLine(line & (line - 1)));
+  }
+}
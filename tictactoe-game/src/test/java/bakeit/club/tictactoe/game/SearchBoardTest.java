@@ -0,0 +1,78 @@
+package bakeit.club.tictactoe.game;
+
+import static bakeit.club.tictactoe.game.Marker.EMPTY;
+import static bakeit.club.tictactoe.game.Marker.O;
+import static bakeit.club.tictactoe.game.Marker.X;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import org.junit.jupiter.api.Test;
+
+class SearchBoardTest {
+
+  SearchBoard cut = new SearchBoard();
+
+  @Test
+  void makeAndUnmake() {
+    cut.make(4);
+    cut.make(0);
+
+    assertSame(BoardState.of(
+        O, EMPTY, EMPTY,
+        EMPTY, X, EMPTY,
+        EMPTY, EMPTY, EMPTY
+    ), cut.toBoardState());
+    assertEquals(X, cut.sideToMove());
+    assertEquals(2, cut.ply());
+
+    cut.unmake();
+    cut.unmake();
+
+    assertSame(BoardState.empty(), cut.toBoardState());
+    assertEquals(0, cut.hash());
+  }
+
+  @Test
+  void statusAndLegalMoves() {
+    cut.reset(BoardState.of(
+        X, X, EMPTY,
+        O, O, EMPTY,
+        EMPTY, EMPTY, EMPTY
+    ));
+
+    assertEquals(0b111_100_100, cut.legalMoves());
+
+    cut.make(2);
+
+    assertEquals(GameStatus.X_WON, cut.status());
+    assertEquals(0, cut.legalMoves());
+
+    cut.unmake();
+
+    assertEquals(GameStatus.IN_PROGRESS, cut.status());
+    assertEquals(0b111_100_100, cut.legalMoves());
+  }
+
+  @Test
+  void enumerateAllGames() {
+    assertEquals(255_168, countGames());
+    assertSame(BoardState.empty(), cut.toBoardState());
+  }
+
+  private long countGames() {
+    assertEquals(Zobrist.hash(cut.packed()), cut.hash());
+
+    if (cut.status().isEnded()) {
+      return 1;
+    }
+
+    long count = 0;
+    for (int moves = cut.legalMoves(); moves != 0; moves = SearchBoard.nextMoves(moves)) {
+      cut.make(SearchBoard.firstMove(moves));
+      count += countGames();
+      cut.unmake();
+    }
+
+    return count;
+  }
+}
@@ -0,0 +1,146 @@
+package bakeit.club.tictactoe.game;
+
+import static bakeit.club.tictactoe.game.Marker.EMPTY;
+import static bakeit.club.tictactoe.game.Marker.O;
+import static bakeit.club.tictactoe.game.Marker.X;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
+
+class SolverTest {
+
+  Solver cut = new Solver();
+
+  @Test
+  void emptyBoardIsDraw() {
+    assertEquals(PlayersResult.DRAW, cut.value(BoardState.empty()));
+    assertEquals(0b111_111_111, cut.optimalMoves(BoardState.empty()));
+  }
+
+  @Test
+  void winInOneMove() {
+    BoardState state = BoardState.of(
+        X, X, EMPTY,
+        O, O, EMPTY,
+        EMPTY, EMPTY, EMPTY
+    );
+
+    assertEquals(PlayersResult.VICTORY, cut.value(state));
+    assertEquals(1 + 4, cut.score(state));
+    assertEquals(1 << 2, cut.optimalMoves(state));
+  }
+
+  @Test
+  void cornerAgainstAdjacentEdgeWins() {
+    BoardState state = BoardState.of(
+        X, O, EMPTY,
+        EMPTY, EMPTY, EMPTY,
+        EMPTY, EMPTY, EMPTY
+    );
+
+    assertEquals(PlayersResult.VICTORY, cut.value(state));
+    assertEquals(PlayersResult.DEFEAT, cut.value(state.withMarker(4, X)));
+  }
+
+  @Test
+  void blockOpponentsStrike() {
+    BoardState state = BoardState.of(
+        X, X, EMPTY,
+        EMPTY, O, EMPTY,
+        EMPTY, EMPTY, EMPTY
+    );
+
+    assertEquals(PlayersResult.DRAW, cut.value(state));
+    assertEquals(1 << 2, cut.optimalMoves(state));
+  }
+
+  @Test
+  void endedGame() {
+    BoardState state = BoardState.of(
+        X, X, X,
+        O, O, EMPTY,
+        EMPTY, EMPTY, EMPTY
+    );
+
+    assertEquals(PlayersResult.DEFEAT, cut.value(state));
+    assertEquals(0, cut.optimalMoves(state));
+  }
+
+  @Test
+  void matchesPlainMinimax() {
+    Map<BoardState, Integer> scores = new HashMap<>();
+
+    for (int code = 0; code < BoardState.COUNT; code++) {
+      BoardState state = BoardState.ofCode(code);
+      int x = Integer.bitCount(state.packed() & 0x1FF);
+      int o = Integer.bitCount(state.packed() >>> 9);
+      boolean reachable = switch (Rules.status(state)) {
+        case X_WON -> x == o + 1 && !Rules.hasLine(state.packed() >>> 9);
+        case O_WON -> x == o;
+        default -> x == o || x == o + 1;
+      };
+      if (reachable) {
+        assertEquals(minimax(state, scores), cut.score(state), state::toString);
+      }
+    }
+  }
+
+  private static int minimax(BoardState state, Map<BoardState, Integer> scores) {
+    Integer cached = scores.get(state);
+    if (cached != null) {
+      return cached;
+    }
+
+    int empty = 9 - Integer.bitCount(state.packed());
+    Marker side = Rules.sideToMove(state.packed());
+    GameStatus status = Rules.status(state);
+    int score;
+    if (status.isEnded()) {
+      score = status.winner() == EMPTY ? 0 : status.winner() == side ? empty + 1 : -(empty + 1);
+    } else {
+      score = Integer.MIN_VALUE;
+      for (int cell = 0; cell < 9; cell++) {
+        if (state.getMarker(cell) == EMPTY) {
+          score = Math.max(score, -minimax(state.withMarker(cell, side), scores));
+        }
+      }
+    }
+
+    scores.put(state, score);
+    return score;
+  }
+
+  @RepeatedTest(5)
+  void solverPlayersDraw() {
+    Solver solver = new Solver();
+    List<PlayersResult> results = new ArrayList<>();
+    Game game = new Game(
+        new RecordingSolverPlayer("player-1", solver, results),
+        new RecordingSolverPlayer("player-2", solver, results)
+    );
+
+    game.play();
+
+    assertEquals(List.of(PlayersResult.DRAW, PlayersResult.DRAW), results);
+  }
+
+  private static class RecordingSolverPlayer extends SolverPlayer {
+
+    private final List<PlayersResult> results;
+
+    RecordingSolverPlayer(String name, Solver solver, List<PlayersResult> results) {
+      super(name, solver);
+      this.results = results;
+    }
+
+    @Override
+    public void gameEnded(BoardState boardState, PlayersResult result) {
+      results.add(result);
+    }
+  }
+}
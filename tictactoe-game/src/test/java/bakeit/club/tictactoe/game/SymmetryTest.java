@@ -0,0 +1,98 @@
+package bakeit.club.tictactoe.game;
+
+import static bakeit.club.tictactoe.game.Marker.EMPTY;
+import static bakeit.club.tictactoe.game.Marker.O;
+import static bakeit.club.tictactoe.game.Marker.X;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+class SymmetryTest {
+
+  @ParameterizedTest
+  @EnumSource(Symmetry.class)
+  void inverse(Symmetry symmetry) {
+    BoardState state = BoardState.of(
+        X, O, EMPTY,
+        EMPTY, X, EMPTY,
+        O, EMPTY, EMPTY
+    );
+
+    assertSame(state, symmetry.inverse().apply(symmetry.apply(state)));
+    for (int cell = 0; cell < 9; cell++) {
+      assertEquals(cell, symmetry.inverse().mapCell(symmetry.mapCell(cell)));
+    }
+  }
+
+  @Test
+  void rotate90() {
+    BoardState state = BoardState.of(
+        X, O, EMPTY,
+        EMPTY, EMPTY, EMPTY,
+        EMPTY, EMPTY, EMPTY
+    );
+
+    assertSame(BoardState.of(
+        EMPTY, EMPTY, X,
+        EMPTY, EMPTY, O,
+        EMPTY, EMPTY, EMPTY
+    ), Symmetry.ROTATE_90.apply(state));
+    assertEquals(Position.of(1, 2), Symmetry.ROTATE_90.map(Position.of(0, 1)));
+  }
+
+  @ParameterizedTest
+  @EnumSource(Symmetry.class)
+  void canonicalize(Symmetry symmetry) {
+    BoardState state = BoardState.of(
+        EMPTY, EMPTY, X,
+        EMPTY, O, EMPTY,
+        EMPTY, EMPTY, EMPTY
+    );
+    BoardState image = symmetry.apply(state);
+
+    Symmetry transform = Symmetry.canonicalize(image);
+
+    assertSame(Symmetry.canonical(state), transform.apply(image));
+    for (Symmetry other : Symmetry.values()) {
+      assertTrue(transform.apply(image).packed() <= other.apply(image).packed());
+    }
+  }
+
+  @Test
+  void reachablePositionsCollapseToCanonicalClasses() {
+    Set<BoardState> reachable = new HashSet<>();
+    Deque<BoardState> queue = new ArrayDeque<>();
+    queue.add(BoardState.empty());
+    reachable.add(BoardState.empty());
+
+    while (!queue.isEmpty()) {
+      BoardState state = queue.poll();
+      if (Rules.status(state).isEnded()) {
+        continue;
+      }
+      Marker side = Rules.sideToMove(state.packed());
+      for (int cell = 0; cell < 9; cell++) {
+        if (state.getMarker(cell) == EMPTY) {
+          BoardState next = state.withMarker(cell, side);
+          if (reachable.add(next)) {
+            queue.add(next);
+          }
+        }
+      }
+    }
+
+    Set<BoardState> canonical = new HashSet<>();
+    reachable.forEach(state -> canonical.add(Symmetry.canonical(state)));
+
+    assertEquals(5478, reachable.size());
+    assertEquals(765, canonical.size());
+  }
+}
@@ -0,0 +1,98 @@
+package bakeit.club.tictactoe.game;
+
+import static bakeit.club.tictactoe.game.Marker.EMPTY;
+import static bakeit.club.tictactoe.game.Marker.O;
+import static bakeit.club.tictactoe.game.Marker.X;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class TablebaseTest {
+
+  @TempDir
+  static Path directory;
+
+  static Tablebase cut;
+
+  @BeforeAll
+  static void beforeAll() throws IOException {
+    Path file = directory.resolve("tictactoe.tb");
+    int count = new TablebaseGenerator().generate(file);
+
+    assertEquals(5478, count);
+
+    cut = Tablebase.open(file);
+  }
+
+  @Test
+  void emptyBoard() {
+    assertEquals(PlayersResult.DRAW, cut.value(BoardState.empty()));
+    assertEquals(9, cut.distance(BoardState.empty()));
+    assertEquals(0b111_111_111, cut.optimalMoves(BoardState.empty()));
+  }
+
+  @Test
+  void winInOneMove() {
+    BoardState state = BoardState.of(
+        X, X, EMPTY,
+        O, O, EMPTY,
+        EMPTY, EMPTY, EMPTY
+    );
+
+    assertEquals(PlayersResult.VICTORY, cut.value(state));
+    assertEquals(1, cut.distance(state));
+    assertEquals(1 << 2, cut.optimalMoves(state));
+  }
+
+  @Test
+  void endedGame() {
+    BoardState state = BoardState.of(
+        X, X, X,
+        O, O, EMPTY,
+        EMPTY, EMPTY, EMPTY
+    );
+
+    assertEquals(PlayersResult.DEFEAT, cut.value(state));
+    assertEquals(0, cut.distance(state));
+    assertEquals(0, cut.optimalMoves(state));
+  }
+
+  @Test
+  void matchesSolver() {
+    Solver solver = new Solver();
+
+    for (int code = 0; code < BoardState.COUNT; code++) {
+      BoardState state = BoardState.ofCode(code);
+      if (cut.contains(state)) {
+        assertEquals(solver.value(state), cut.value(state));
+        assertEquals(solver.optimalMoves(state), cut.optimalMoves(state));
+      }
+    }
+  }
+
+  @Test
+  void unreachablePosition() {
+    BoardState state = BoardState.of(
+        X, X, EMPTY,
+        EMPTY, EMPTY, EMPTY,
+        EMPTY, EMPTY, EMPTY
+    );
+
+    assertFalse(cut.contains(state));
+    assertThrows(IllegalArgumentException.class, () -> cut.value(state));
+  }
+
+  @Test
+  void open_rejectsInvalidFile() throws IOException {
+    Path file = Files.write(directory.resolve("invalid.tb"), new byte[]{1, 2, 3});
+
+    assertThrows(IllegalArgumentException.class, () -> Tablebase.open(file));
+  }
+}
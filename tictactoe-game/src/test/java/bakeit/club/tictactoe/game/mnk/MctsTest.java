@@ -0,0 +1,105 @@
+package bakeit.club.tictactoe.game.mnk;
+
+import static bakeit.club.tictactoe.game.Marker.O;
+import static bakeit.club.tictactoe.game.Marker.X;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class MctsTest {
+
+  @Test
+  void takesWinningMove() {
+    MnkBoard board = new MnkBoard(3, 3, 3);
+    board.placeMarker(0, X);
+    board.placeMarker(4, O);
+    board.placeMarker(1, X);
+    board.placeMarker(8, O);
+
+    Mcts cut = new Mcts(board, MctsSettings.ofIterations(5_000));
+
+    assertEquals(2, cut.search());
+  }
+
+  @Test
+  void blocksOpponentsWin() {
+    MnkBoard board = new MnkBoard(3, 3, 3);
+    board.placeMarker(0, X);
+    board.placeMarker(4, O);
+    board.placeMarker(8, X);
+    board.placeMarker(1, O);
+
+    Mcts cut = new Mcts(board, MctsSettings.ofIterations(20_000));
+
+    assertEquals(7, cut.search());
+  }
+
+  @Test
+  void advanceReusesSubtree() {
+    Mcts cut = new Mcts(new MnkBoard(3, 3, 3), MctsSettings.ofIterations(10_000));
+
+    int move = cut.search();
+    long visits = cut.visits(move);
+    cut.advance(move);
+
+    long total = 0;
+    for (int cell = 0; cell < 9; cell++) {
+      total += cut.visits(cell);
+    }
+
+    assertEquals(X, cut.position().getMarker(move));
+    assertEquals(visits - 1, total);
+  }
+
+  @Test
+  void parallelSearchOnLargeBoard() {
+    MnkBoard board = new MnkBoard(15, 15, 5);
+    for (int column = 3; column < 7; column++) {
+      board.placeMarker(7, column, X);
+      board.placeMarker(0, column, O);
+    }
+
+    MctsSettings settings = new MctsSettings(Duration.ofSeconds(10), 8_000, 4,
+        MctsSettings.DEFAULT_EXPLORATION);
+    try (Mcts cut = new Mcts(board, settings)) {
+      int move = cut.search();
+      assertTrue(move == board.toCell(7, 2) || move == board.toCell(7, 7), "move " + move);
+
+      move = cut.search();
+      assertTrue(move == board.toCell(7, 2) || move == board.toCell(7, 7), "move " + move);
+    }
+  }
+
+  @Test
+  void timeBudget() {
+    Mcts cut = new Mcts(new MnkBoard(19, 19, 5), MctsSettings.ofTime(Duration.ofMillis(100)));
+
+    long start = System.nanoTime();
+    cut.search();
+    long elapsed = System.nanoTime() - start;
+
+    assertTrue(elapsed < Duration.ofSeconds(2).toNanos(), "elapsed " + elapsed);
+  }
+
+  @Test
+  void searchEndedGame() {
+    MnkBoard board = new MnkBoard(1, 1, 1);
+    board.placeMarker(0, X);
+
+    Mcts cut = new Mcts(board, MctsSettings.ofIterations(10));
+
+    assertThrows(IllegalStateException.class, cut::search);
+  }
+
+  @ParameterizedTest
+  @ValueSource(doubles = {-1, Double.NaN, Double.POSITIVE_INFINITY})
+  void settingsRejectInvalidExploration(double exploration) {
+    assertThrows(IllegalArgumentException.class,
+        () -> new MctsSettings(Duration.ofSeconds(1), 1, 1, exploration));
+  }
+}
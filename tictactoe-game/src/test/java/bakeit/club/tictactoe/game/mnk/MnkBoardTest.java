@@ -0,0 +1,111 @@
+package bakeit.club.tictactoe.game.mnk;
+
+import static bakeit.club.tictactoe.game.Marker.EMPTY;
+import static bakeit.club.tictactoe.game.Marker.O;
+import static bakeit.club.tictactoe.game.Marker.X;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import bakeit.club.tictactoe.game.GameStatus;
+import bakeit.club.tictactoe.game.InvalidMove;
+import bakeit.club.tictactoe.game.Rules;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+class MnkBoardTest {
+
+  @Test
+  void classicBoardMatchesRules() {
+    for (int mask = 0; mask < 512; mask++) {
+      MnkBoard cut = new MnkBoard(3, 3, 3);
+      for (int cell = 0; cell < 9; cell++) {
+        if ((mask & (1 << cell)) != 0) {
+          cut.placeMarker(cell, X);
+        }
+      }
+
+      assertEquals(Rules.hasLine(mask), cut.hasLine(X), "mask " + mask);
+      assertFalse(cut.hasLine(O));
+    }
+  }
+
+  @ParameterizedTest
+  @CsvSource({
+      // row, column, row step, column step
+      "7,3,0,1",
+      "0,10,0,1",
+      "3,14,1,0",
+      "2,2,1,1",
+      "10,10,1,1",
+      "0,14,1,-1",
+      "9,6,1,-1"
+  })
+  void gomokuLines(int row, int column, int rowStep, int columnStep) {
+    MnkBoard cut = new MnkBoard(15, 15, 5);
+
+    for (int i = 0; i < 5; i++) {
+      assertFalse(cut.hasLine(X));
+      assertEquals(GameStatus.IN_PROGRESS, cut.getStatus());
+      cut.placeMarker(row + i * rowStep, column + i * columnStep, X);
+    }
+
+    assertTrue(cut.hasLine(X));
+    assertEquals(GameStatus.X_WON, cut.getStatus());
+  }
+
+  @Test
+  void linesDoNotWrapAroundEdges() {
+    MnkBoard cut = new MnkBoard(15, 15, 5);
+
+    cut.placeMarker(4, 12, O);
+    cut.placeMarker(4, 13, O);
+    cut.placeMarker(4, 14, O);
+    cut.placeMarker(5, 0, O);
+    cut.placeMarker(5, 1, O);
+
+    cut.placeMarker(10, 2, O);
+    cut.placeMarker(11, 1, O);
+    cut.placeMarker(12, 0, O);
+    cut.placeMarker(13, 14, O);
+    cut.placeMarker(14, 13, O);
+
+    assertFalse(cut.hasLine(O));
+    assertEquals(GameStatus.IN_PROGRESS, cut.getStatus());
+  }
+
+  @Test
+  void rectangularBoardDraw() {
+    MnkBoard cut = new MnkBoard(2, 4, 3);
+
+    cut.placeMarker(0, X);
+    cut.placeMarker(1, O);
+    cut.placeMarker(2, X);
+    cut.placeMarker(3, O);
+    cut.placeMarker(4, O);
+    cut.placeMarker(5, X);
+    cut.placeMarker(6, O);
+
+    assertEquals(GameStatus.DRAW, cut.placeMarker(7, X));
+    assertEquals(0, cut.emptyCount());
+  }
+
+  @Test
+  void placeMarker_forbidPlacingMarkerOnNonEmptyCell() {
+    MnkBoard cut = new MnkBoard(4, 4, 3);
+    cut.placeMarker(1, 2, X);
+
+    assertEquals(X, cut.getMarker(1, 2));
+    assertEquals(EMPTY, cut.getMarker(2, 1));
+    assertThrows(InvalidMove.class, () -> cut.placeMarker(1, 2, O));
+    assertThrows(IllegalArgumentException.class, () -> cut.placeMarker(4, 0, O));
+  }
+
+  @Test
+  void invalidDimensions() {
+    assertThrows(IllegalArgumentException.class, () -> new MnkBoard(0, 3, 3));
+    assertThrows(IllegalArgumentException.class, () -> new MnkBoard(3, 3, 4));
+  }
+}
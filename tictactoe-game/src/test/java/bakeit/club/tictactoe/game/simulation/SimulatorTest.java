@@ -0,0 +1,53 @@
+package bakeit.club.tictactoe.game.simulation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import bakeit.club.tictactoe.game.Solver;
+import org.junit.jupiter.api.Test;
+
+class SimulatorTest {
+
+  @Test
+  void perfectPlayersAlwaysDraw() {
+    Solver solver = new Solver();
+    Simulator cut = new Simulator(Strategy.perfect(solver), Strategy.perfect(solver));
+
+    SimulationResult actual = cut.run(10_000, 4);
+
+    assertEquals(10_000, actual.games());
+    assertEquals(10_000, actual.draws());
+    assertEquals(50_000, actual.xStatistics().moves());
+    assertEquals(40_000, actual.oStatistics().moves());
+  }
+
+  @Test
+  void perfectPlayerNeverLosesAgainstRandomPlayer() {
+    Simulator cut = new Simulator(Strategy.random(), Strategy.perfect(new Solver()));
+
+    SimulationResult actual = cut.run(20_000);
+
+    assertEquals(0, actual.xWins());
+    assertEquals(20_000, actual.oWins() + actual.draws());
+    assertTrue(actual.oWins() > 0);
+    assertTrue(actual.gamesPerSecond() > 0);
+  }
+
+  @Test
+  void randomPlayers() {
+    Simulator cut = new Simulator(Strategy.random(), Strategy.random());
+
+    SimulationResult actual = cut.run(100_000);
+
+    assertEquals(100_000, actual.xWins() + actual.oWins() + actual.draws());
+    assertTrue(actual.xWins() > actual.oWins());
+  }
+
+  @Test
+  void illegalMove() {
+    Simulator cut = new Simulator(board -> 4, Strategy.random());
+
+    assertThrows(IllegalStateException.class, () -> cut.run(1, 1));
+  }
+}
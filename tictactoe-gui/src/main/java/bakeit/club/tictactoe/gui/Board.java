@@ -36,8 +36,7 @@ public class Board extends JPanel {
 
   public void setBoardState(BoardState boardState) {
     for (int i = 0; i < cells.length; i++) {
-      Position position = new Position(i / 3, i % 3);
-      Marker marker = boardState.getMarker(position);
+      Marker marker = boardState.getMarker(i);
       cells[i].hasChanged = cells[i].marker != marker;
       cells[i].marker = marker;
     }
@@ -167,7 +166,7 @@ public class Board extends JPanel {
 
         if (row == rowClicked && column == columnClicked) {
           if (cells[i].marker == Marker.EMPTY) {
-            moveHandler.moveMade(new Position(rowClicked, columnClicked));
+            moveHandler.moveMade(Position.of(rowClicked, columnClicked));
             Arrays.stream(cells).forEach(c -> c.hasChanged = false);
             moveHandler = null;
           }
@@ -0,0 +1,77 @@
+package bakeit.club.tictactoe.net;
+
+import bakeit.club.tictactoe.game.BoardState;
+import bakeit.club.tictactoe.game.Marker;
+
+/**
+ * Helper functions for the board updates of the {@link ProtocolVersion#V3} format. A board is
+ * transferred as an update of the board previously transferred over the same connection. The
+ * update starts with a header byte:
+ * <ul>
+ *   <li>the bits {@code 0..3} hold the index of the cell where a marker was placed,
+ *   {@link #UNCHANGED} if the board has not changed or {@link #SNAPSHOT} if the 2-byte base-3 code
+ *   of the whole board follows the header,</li>
+ *   <li>the bit {@code 4} is set if the placed marker is {@link Marker#O},</li>
+ *   <li>the bits {@code 5..7} hold the sequence number of the update modulo {@code 8}.</li>
+ * </ul>
+ */
+final class BoardUpdates {
+
+  static final int UNCHANGED = 14;
+  static final int SNAPSHOT = 15;
+
+  /**
+   * The number of updates after which a snapshot is sent even if a delta would do.
+   */
+  static final int SNAPSHOT_INTERVAL = 16;
+
+  static final int SEQUENCE_MASK = 0x7;
+
+  private static final int CELL_MASK = 0xF;
+  private static final int O_FLAG = 1 << 4;
+  private static final int SEQUENCE_SHIFT = 5;
+  private static final int O_SHIFT = 9;
+
+  private BoardUpdates() {
+  }
+
+  /**
+   * Gets the header of the update from one board to another without the sequence number.
+   *
+   * @param from the previously transferred board or {@code null} if there is none
+   * @param to   the board to transfer
+   * @return the header, {@link #SNAPSHOT} if the boards differ in other way than a single placed
+   * marker
+   */
+  static int delta(BoardState from, BoardState to) {
+    if (from == null) {
+      return SNAPSHOT;
+    } else if (from == to) {
+      return UNCHANGED;
+    }
+
+    int placed = to.packed() ^ from.packed();
+    if (Integer.bitCount(placed) != 1 || (from.packed() & placed) != 0) {
+      return SNAPSHOT;
+    }
+
+    int bit = Integer.numberOfTrailingZeros(placed);
+    return bit < O_SHIFT ? bit : (bit - O_SHIFT) | O_FLAG;
+  }
+
+  static int header(int delta, int sequence) {
+    return delta | (sequence & SEQUENCE_MASK) << SEQUENCE_SHIFT;
+  }
+
+  static int cell(int header) {
+    return header & CELL_MASK;
+  }
+
+  static Marker marker(int header) {
+    return (header & O_FLAG) != 0 ? Marker.O : Marker.X;
+  }
+
+  static int sequence(int header) {
+    return (header >>> SEQUENCE_SHIFT) & SEQUENCE_MASK;
+  }
+}
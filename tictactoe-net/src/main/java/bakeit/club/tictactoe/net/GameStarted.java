@@ -1,5 +1,7 @@
 package bakeit.club.tictactoe.net;
 
+import static java.util.Objects.requireNonNull;
+
 import bakeit.club.tictactoe.game.Marker;
 
 /**
@@ -7,7 +9,25 @@ import bakeit.club.tictactoe.game.Marker;
  *
  * @param assignedMarker the assigned marker to this player.
  * @param opponentName the name of the opponent player
+ * @param protocolVersion the protocol version negotiated for the rest of the game
  */
-public record GameStarted(Marker assignedMarker, String opponentName) implements Message {
+public record GameStarted(
+    Marker assignedMarker,
+    String opponentName,
+    ProtocolVersion protocolVersion
+) implements Message {
+
+  public GameStarted {
+    requireNonNull(protocolVersion);
+  }
 
+  /**
+   * Creates the message of a game using the {@link ProtocolVersion#V1}.
+   *
+   * @param assignedMarker the assigned marker to this player.
+   * @param opponentName the name of the opponent player
+   */
+  public GameStarted(Marker assignedMarker, String opponentName) {
+    this(assignedMarker, opponentName, ProtocolVersion.V1);
+  }
 }
@@ -1,5 +1,31 @@
 package bakeit.club.tictactoe.net;
 
-public record JoinGame(String playerName) implements Message {
+/**
+ * A message sent by a client to join a game.
+ *
+ * @param playerName      the name of the player
+ * @param protocolVersion the code of the latest protocol version supported by the client, it may
+ *                        be a version unknown to the server, see
+ *                        {@link ProtocolVersion#negotiate(byte)}
+ */
+public record JoinGame(String playerName, byte protocolVersion) implements Message {
 
+  /**
+   * Creates the message of a client supporting only the {@link ProtocolVersion#V1}.
+   *
+   * @param playerName the name of the player
+   */
+  public JoinGame(String playerName) {
+    this(playerName, ProtocolVersion.V1);
+  }
+
+  /**
+   * Creates the message of a client supporting the given protocol version.
+   *
+   * @param playerName      the name of the player
+   * @param protocolVersion the latest protocol version supported by the client
+   */
+  public JoinGame(String playerName, ProtocolVersion protocolVersion) {
+    this(playerName, protocolVersion.code());
+  }
 }
@@ -0,0 +1,59 @@
+package bakeit.club.tictactoe.net;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * A blocking source of messages read from an input stream. The bytes are read in chunks into a
+ * single reused buffer and the frames are decoded from it in place by the
+ * {@link MessageReader#decode(ByteBuffer)}, so reading a message does not allocate any per-frame
+ * arrays and a single read from the stream may deliver more frames.
+ */
+public class MessageInput {
+
+  private static final int INITIAL_BUFFER_SIZE = 512;
+
+  private final InputStream input;
+  private final MessageReader reader;
+  private ByteBuffer buffer = ByteBuffer.allocate(INITIAL_BUFFER_SIZE).limit(0);
+
+  public MessageInput(InputStream input, MessageReader reader) {
+    this.input = input;
+    this.reader = reader;
+  }
+
+  /**
+   * Reads the next message. It blocks until the whole frame of the message is read.
+   *
+   * @return the message
+   * @throws EOFException If the stream ends before the whole frame is read.
+   * @throws IOException  If reading from the stream fails.
+   */
+  public Message read() throws IOException {
+    Message message;
+    while ((message = reader.decode(buffer)) == null) {
+      fill();
+    }
+
+    return message;
+  }
+
+  private void fill() throws IOException {
+    buffer.compact();
+    if (!buffer.hasRemaining()) {
+      int capacity = Math.min(
+          2 * buffer.capacity(), MessageWriter.LENGTH_PREFIX_SIZE + MessageReader.MAX_MESSAGE_SIZE);
+      buffer = ByteBuffer.allocate(capacity).put(buffer.flip());
+    }
+
+    int count = input.read(buffer.array(), buffer.position(), buffer.remaining());
+    if (count < 0) {
+      buffer.flip();
+      throw new EOFException("The stream ended before a whole frame was read.");
+    }
+
+    buffer.position(buffer.position() + count).flip();
+  }
+}
@@ -0,0 +1,70 @@
+package bakeit.club.tictactoe.net;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * An outbound queue of messages written to an output stream. The queued messages are encoded one
+ * after another into a single reused buffer by the
+ * {@link MessageWriter#encode(Message, ByteBuffer)} and all of them are written to the stream by a
+ * single write on {@link #flush()}, so the frames produced within one game step cost a single
+ * system call.
+ */
+public class MessageOutput {
+
+  private static final int INITIAL_BUFFER_SIZE = 512;
+
+  private final OutputStream output;
+  private final MessageWriter writer;
+  private ByteBuffer buffer = ByteBuffer.allocate(INITIAL_BUFFER_SIZE);
+
+  public MessageOutput(OutputStream output, MessageWriter writer) {
+    this.output = output;
+    this.writer = writer;
+  }
+
+  /**
+   * Queues the message. Nothing is written to the stream until {@link #flush()} is called.
+   *
+   * @param message the message to queue
+   */
+  public void enqueue(Message message) {
+    int frameSize = writer.frameSize(message);
+    if (buffer.remaining() < frameSize) {
+      int capacity = Math.max(buffer.position() + frameSize, 2 * buffer.capacity());
+      buffer = ByteBuffer.allocate(capacity).put(buffer.flip());
+    }
+
+    writer.encode(message, buffer);
+  }
+
+  /**
+   * Gets the number of bytes of the queued messages.
+   *
+   * @return the number of bytes written to the stream by the next {@link #flush()}
+   */
+  public int pendingBytes() {
+    return buffer.position();
+  }
+
+  /**
+   * Writes all queued messages to the stream and flushes it. It does nothing if no message is
+   * queued.
+   *
+   * @throws IOException If writing to the stream fails. The queued messages are dropped in that
+   *                     case.
+   */
+  public void flush() throws IOException {
+    if (buffer.position() == 0) {
+      return;
+    }
+
+    try {
+      output.write(buffer.array(), 0, buffer.position());
+      output.flush();
+    } finally {
+      buffer.clear();
+    }
+  }
+}
@@ -1,28 +1,137 @@
 package bakeit.club.tictactoe.net;
 
+import static java.util.Objects.requireNonNull;
+
 import bakeit.club.tictactoe.game.BoardState;
 import bakeit.club.tictactoe.game.Marker;
 import bakeit.club.tictactoe.game.PlayersResult;
 import bakeit.club.tictactoe.game.Position;
+import java.nio.BufferUnderflowException;
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 
 /**
  * This class is responsible for deserializing network messages exchanged between the game server
  * and player's client application.
+ * <p>
+ * The board states and positions of the messages are the cached instances returned by
+ * {@link BoardState#ofCode(int)} and {@link Position#of(int, int)}. An instance is not thread-safe,
+ * every connection should use its own reader.
+ * </p>
+ * <p>
+ * The messages are expected in the {@link ProtocolVersion#V1} format until another version is set
+ * by {@link #setVersion(ProtocolVersion)}.
+ * </p>
  */
 public class MessageReader {
 
+  /**
+   * The maximum size of a serialized message accepted by {@link #decode(ByteBuffer)}.
+   */
+  public static final int MAX_MESSAGE_SIZE = 1 << 16;
+
+  private byte[] stringBuffer = new byte[64];
+  private ProtocolVersion version = ProtocolVersion.V1;
+  private BoardState lastBoard;
+  private int boardSequence;
+
+  /**
+   * Sets the format of the deserialized messages. The handshake messages {@link JoinGame} and
+   * {@link GameStarted} are always expected in the {@link ProtocolVersion#V1} format.
+   *
+   * @param version the protocol version
+   */
+  public void setVersion(ProtocolVersion version) {
+    this.version = requireNonNull(version);
+    this.lastBoard = null;
+    this.boardSequence = 0;
+  }
+
+  public ProtocolVersion getVersion() {
+    return version;
+  }
+
   /**
    * Deserializes the sequence of bytes to the application message.
    *
    * @param data the data to deserialized
    * @return the deserialized data
+   * @throws IllegalStateException    If the data is not exactly one serialized message.
+   * @throws IllegalArgumentException If the data contains an invalid value.
    */
   public Message read(byte[] data) {
-    ByteBuffer buffer = ByteBuffer.wrap(data);
+    return readFrame(ByteBuffer.wrap(data), data.length);
+  }
 
-    return switch (buffer.get()) {
+  /**
+   * Decodes the next frame from the buffer. A frame is the length of the serialized message as a
+   * 4-byte integer followed by the serialized message, see
+   * {@link MessageWriter#encode(Message, ByteBuffer)}. The frame is decoded in place, no array is
+   * allocated for it.
+   * <p>
+   * If the buffer contains the whole frame, its position is advanced past the frame. If it
+   * contains only a part of the frame, the position is not changed and {@code null} is returned, so
+   * the caller can read more bytes into the buffer and try again. A buffer holding more frames is
+   * decoded by repeated calls.
+   * </p>
+   *
+   * @param src the buffer in the big-endian byte order, it may be a direct buffer
+   * @return the decoded message or {@code null} if more bytes are needed
+   * @throws IllegalStateException    If the frame is malformed.
+   * @throws IllegalArgumentException If the frame contains an invalid value.
+   */
+  public Message decode(ByteBuffer src) {
+    if (src.remaining() < MessageWriter.LENGTH_PREFIX_SIZE) {
+      return null;
+    }
+
+    int start = src.position();
+    int size = src.getInt(start);
+    if (size < 1 || size > MAX_MESSAGE_SIZE) {
+      throw new IllegalStateException("Invalid message size: " + size);
+    }
+
+    int end = start + MessageWriter.LENGTH_PREFIX_SIZE + size;
+    if (src.limit() < end) {
+      return null;
+    }
+
+    int limit = src.limit();
+    src.position(start + MessageWriter.LENGTH_PREFIX_SIZE).limit(end);
+    try {
+      return readFrame(src, size);
+    } finally {
+      src.limit(limit).position(end);
+    }
+  }
+
+  private Message readFrame(ByteBuffer buffer, int size) {
+    BoardState board = lastBoard;
+    int sequence = boardSequence;
+    boolean decoded = false;
+    try {
+      Message message = readMessage(buffer);
+      if (buffer.hasRemaining()) {
+        throw new IllegalStateException(
+            "The message " + message + " is shorter than its frame of " + size + " bytes.");
+      }
+      decoded = true;
+      return message;
+    } catch (BufferUnderflowException e) {
+      throw new IllegalStateException(
+          "The message is longer than its frame of " + size + " bytes.", e);
+    } finally {
+      if (!decoded) {
+        // a rejected frame must not change the board kept for the board updates
+        lastBoard = board;
+        boardSequence = sequence;
+      }
+    }
+  }
+
+  private Message readMessage(ByteBuffer buffer) {
+    byte code = buffer.get();
+    return switch (code) {
       case 0 -> readGameStarted(buffer);
       case 1 -> readJoinGame(buffer);
       case 2 -> readMakeMove(buffer);
@@ -31,19 +140,25 @@ public class MessageReader {
       case 5 -> readGameEnded(buffer);
       case 6 -> readInvalidMove(buffer);
       case 7 -> readWaitOpponentsMove(buffer);
-      default -> throw new IllegalStateException("Unexpected message code: " + buffer.get());
+      default -> throw new IllegalStateException("Unexpected message code: " + code);
     };
   }
 
   private GameStarted readGameStarted(ByteBuffer buffer) {
     Marker marker = readMarker(buffer);
-    String opponentName = readString(buffer);
-    return new GameStarted(marker, opponentName);
+    String opponentName = readV1String(buffer);
+    if (!buffer.hasRemaining()) {
+      return new GameStarted(marker, opponentName);
+    }
+    return new GameStarted(marker, opponentName, ProtocolVersion.ofCode(buffer.get()));
   }
 
   private JoinGame readJoinGame(ByteBuffer buffer) {
-    String playerName = readString(buffer);
-    return new JoinGame(playerName);
+    String playerName = readV1String(buffer);
+    if (!buffer.hasRemaining()) {
+      return new JoinGame(playerName);
+    }
+    return new JoinGame(playerName, buffer.get());
   }
 
   private MakeMove readMakeMove(ByteBuffer buffer) {
@@ -88,10 +203,32 @@ public class MessageReader {
   }
 
   private String readString(ByteBuffer buffer) {
-    int length = buffer.getInt();
-    byte[] data = new byte[length];
-    buffer.get(data);
-    return new String(data, StandardCharsets.UTF_8);
+    if (version == ProtocolVersion.V1) {
+      return readV1String(buffer);
+    }
+    return readString(buffer, VarInt.get(buffer));
+  }
+
+  private String readV1String(ByteBuffer buffer) {
+    return readString(buffer, buffer.getInt());
+  }
+
+  private String readString(ByteBuffer buffer, int length) {
+    if (length < 0 || length > buffer.remaining()) {
+      throw new BufferUnderflowException();
+    }
+
+    if (buffer.hasArray()) {
+      int offset = buffer.arrayOffset() + buffer.position();
+      buffer.position(buffer.position() + length);
+      return new String(buffer.array(), offset, length, StandardCharsets.UTF_8);
+    }
+
+    if (stringBuffer.length < length) {
+      stringBuffer = new byte[length];
+    }
+    buffer.get(stringBuffer, 0, length);
+    return new String(stringBuffer, 0, length, StandardCharsets.UTF_8);
   }
 
   Marker readMarker(ByteBuffer buffer) {
@@ -115,19 +252,69 @@ public class MessageReader {
   }
 
   private BoardState readBoardState(ByteBuffer buffer) {
-    Marker[] cells = new Marker[9];
+    return switch (version) {
+      case V1 -> readV1BoardState(buffer);
+      case V2 -> BoardState.ofCode(Short.toUnsignedInt(buffer.getShort()));
+      case V3 -> readBoardUpdate(buffer);
+    };
+  }
 
-    for (int i = 0; i < cells.length; i++) {
-      cells[i] = readMarker(buffer);
+  private BoardState readV1BoardState(ByteBuffer buffer) {
+    int code = 0;
+    int weight = 1;
+
+    for (int i = 0; i < 9; i++) {
+      code += switch (readMarker(buffer)) {
+        case EMPTY -> 0;
+        case X -> weight;
+        case O -> 2 * weight;
+      };
+      weight *= 3;
     }
 
-    return BoardState.of(cells);
+    return BoardState.ofCode(code);
+  }
+
+  private BoardState readBoardUpdate(ByteBuffer buffer) {
+    int header = Byte.toUnsignedInt(buffer.get());
+    int cell = BoardUpdates.cell(header);
+    if (cell == BoardUpdates.SNAPSHOT) {
+      // a snapshot resynchronizes both the board and the sequence
+      lastBoard = BoardState.ofCode(Short.toUnsignedInt(buffer.getShort()));
+      boardSequence = BoardUpdates.sequence(header) + 1;
+      return lastBoard;
+    }
+
+    int expectedSequence = boardSequence & BoardUpdates.SEQUENCE_MASK;
+    if (BoardUpdates.sequence(header) != expectedSequence) {
+      throw new IllegalStateException("Board update " + BoardUpdates.sequence(header)
+          + " received but " + expectedSequence + " expected.");
+    }
+
+    BoardState boardState;
+    if (lastBoard == null) {
+      throw new IllegalStateException("Board update received before a snapshot.");
+    } else if (cell == BoardUpdates.UNCHANGED) {
+      boardState = lastBoard;
+    } else if (lastBoard.getMarker(cell) == Marker.EMPTY) {
+      boardState = lastBoard.withMarker(cell, BoardUpdates.marker(header));
+    } else {
+      throw new IllegalStateException("Board update places a marker to the occupied cell " + cell);
+    }
+
+    lastBoard = boardState;
+    boardSequence++;
+    return boardState;
   }
 
   private Position readPosition(ByteBuffer buffer) {
+    if (version != ProtocolVersion.V1) {
+      return Position.ofIndex(buffer.get());
+    }
+
     int row = buffer.getInt();
     int column = buffer.getInt();
 
-    return new Position(row, column);
+    return Position.of(row, column);
   }
 }
@@ -1,18 +1,67 @@
 package bakeit.club.tictactoe.net;
 
+import static java.util.Objects.requireNonNull;
+
 import bakeit.club.tictactoe.game.BoardState;
 import bakeit.club.tictactoe.game.Marker;
 import bakeit.club.tictactoe.game.PlayersResult;
 import bakeit.club.tictactoe.game.Position;
+import java.nio.BufferOverflowException;
 import java.nio.ByteBuffer;
-import java.nio.charset.StandardCharsets;
 
 /**
  * This class is responsible for serializing messages exchanged between the game server and player's
  * client application.
+ * <p>
+ * A message is transferred over the wire as a frame: the length of the serialized message as a
+ * 4-byte integer followed by the serialized message itself. The frames can be encoded directly into
+ * a caller supplied buffer by {@link #encode(Message, ByteBuffer)} without any intermediate
+ * arrays.
+ * </p>
+ * <p>
+ * The messages are serialized in the {@link ProtocolVersion#V1} format until another version is
+ * set by {@link #setVersion(ProtocolVersion)}. An instance is not thread-safe, every connection
+ * should use its own writer.
+ * </p>
  */
 public class MessageWriter {
 
+  /**
+   * The size of the frame length prefix.
+   */
+  public static final int LENGTH_PREFIX_SIZE = 4;
+
+  private static final int CELLS = 9;
+
+  private ProtocolVersion version = ProtocolVersion.V1;
+  private BoardState lastBoard;
+  private int boardSequence;
+  private boolean snapshotRequested;
+
+  /**
+   * Sets the format of the serialized messages. The handshake messages {@link JoinGame} and
+   * {@link GameStarted} are always serialized in the {@link ProtocolVersion#V1} format.
+   *
+   * @param version the protocol version
+   */
+  public void setVersion(ProtocolVersion version) {
+    this.version = requireNonNull(version);
+    this.lastBoard = null;
+    this.boardSequence = 0;
+  }
+
+  public ProtocolVersion getVersion() {
+    return version;
+  }
+
+  /**
+   * Makes the next board of the {@link ProtocolVersion#V3} format to be sent as a full snapshot,
+   * so the peer can resynchronize its board. The snapshots are also sent periodically.
+   */
+  public void requestSnapshot() {
+    snapshotRequested = true;
+  }
+
   /**
    * Serializes the application message to the sequence of bytes that can be transferred over the
    * wire.
@@ -21,102 +70,107 @@ public class MessageWriter {
    * @return a sequence of bytes representing the serialized message
    */
   public byte[] write(Message message) {
-    return switch (message) {
-      case GameStarted gameStarted -> write(gameStarted);
-      case GameEnded gameEnded -> write(gameEnded);
-      case JoinGame joinGame -> write(joinGame);
-      case MakeMove makeMove -> write(makeMove);
-      case Move move -> write(move);
-      case MoveAccepted moveAccepted -> write(moveAccepted);
-      case InvalidMove invalidMove -> write(invalidMove);
-      case WaitOpponentsMove waitOpponentsMove -> write(waitOpponentsMove);
-    };
+    ByteBuffer buffer = ByteBuffer.allocate(size(message));
+    put(message, buffer);
+    return buffer.array();
   }
 
-  private byte[] write(GameStarted gameStarted) {
-    BufferableString opponentsName = new BufferableString(gameStarted.opponentName());
-    var buffer = ByteBuffer.allocate(
-        1 + 1 + opponentsName.size()
-    );
-    buffer.put(gameStarted.getCode());
-    buffer.put(toMarkerCode(gameStarted.assignedMarker()));
-    opponentsName.putTo(buffer);
+  /**
+   * Encodes the message as a frame into the buffer. The frame is written at the current position
+   * of the buffer and the position is advanced past the frame. The buffer must use the big-endian
+   * byte order, which is the default order of the byte buffers.
+   *
+   * @param message the message to encode
+   * @param dst     the buffer to write the frame to, it may be a direct buffer
+   * @return the number of bytes written, i.e. the size of the frame
+   * @throws BufferOverflowException If there is not enough space in the buffer for the whole frame.
+   *                                 Nothing is written to the buffer in that case.
+   * @see #frameSize(Message)
+   */
+  public int encode(Message message, ByteBuffer dst) {
+    int size = size(message);
+    if (dst.remaining() < LENGTH_PREFIX_SIZE + size) {
+      throw new BufferOverflowException();
+    }
 
-    return buffer.array();
-  }
+    dst.putInt(size);
+    put(message, dst);
 
-  private byte[] write(JoinGame joinGame) {
-    BufferableString playerName = new BufferableString(joinGame.playerName());
-    var buffer = ByteBuffer.allocate(
-        1 + playerName.size()
-    );
-    buffer.put(joinGame.getCode());
-    playerName.putTo(buffer);
-    return buffer.array();
+    return LENGTH_PREFIX_SIZE + size;
   }
 
-  private byte[] write(MakeMove makeMove) {
-    var buffer = ByteBuffer.allocate(1 + 8 + 9);
-    buffer.put(makeMove.getCode());
-    buffer.putLong(makeMove.token());
-    writeBoard(buffer, makeMove.boardState());
-    return buffer.array();
+  /**
+   * Gets the size of the frame of the message.
+   *
+   * @param message the message
+   * @return the number of bytes {@link #encode(Message, ByteBuffer)} writes for the message
+   */
+  public int frameSize(Message message) {
+    return LENGTH_PREFIX_SIZE + size(message);
   }
 
-  private byte[] write(Move move) {
-    var buffer = ByteBuffer.allocate(1 + 4 + 4 + 8);
-    buffer.put(move.getCode());
-    buffer.putInt(move.position().row());
-    buffer.putInt(move.position().column());
-    buffer.putLong(move.token());
-    return buffer.array();
+  private int size(Message message) {
+    return 1 + switch (message) {
+      case GameStarted gameStarted -> 1 + v1StringSize(gameStarted.opponentName())
+          + versionSize(gameStarted.protocolVersion().code());
+      case GameEnded gameEnded -> 1 + boardSize(gameEnded.boardState());
+      case JoinGame joinGame -> v1StringSize(joinGame.playerName())
+          + versionSize(joinGame.protocolVersion());
+      case MakeMove makeMove -> 8 + boardSize(makeMove.boardState());
+      case Move move -> positionSize() + 8;
+      case MoveAccepted moveAccepted ->
+          positionSize() + boardSize(moveAccepted.boardState());
+      case InvalidMove invalidMove -> positionSize() + 1 + stringSize(invalidMove.message());
+      case WaitOpponentsMove waitOpponentsMove -> boardSize(waitOpponentsMove.boardState());
+    };
   }
 
-  private byte[] write(MoveAccepted moveAccepted) {
-    var buffer = ByteBuffer.allocate(1 + 4 + 4 + 9);
-    buffer.put(moveAccepted.getCode());
-    buffer.putInt(moveAccepted.position().row());
-    buffer.putInt(moveAccepted.position().column());
-    writeBoard(buffer, moveAccepted.boardState());
-    return buffer.array();
+  private void put(Message message, ByteBuffer buffer) {
+    buffer.put(message.getCode());
+    switch (message) {
+      case GameStarted gameStarted -> {
+        buffer.put(toMarkerCode(gameStarted.assignedMarker()));
+        writeV1String(buffer, gameStarted.opponentName());
+        writeVersion(buffer, gameStarted.protocolVersion().code());
+      }
+      case GameEnded gameEnded -> {
+        buffer.put(toResultCode(gameEnded.result()));
+        writeBoard(buffer, gameEnded.boardState());
+      }
+      case JoinGame joinGame -> {
+        writeV1String(buffer, joinGame.playerName());
+        writeVersion(buffer, joinGame.protocolVersion());
+      }
+      case MakeMove makeMove -> {
+        buffer.putLong(makeMove.token());
+        writeBoard(buffer, makeMove.boardState());
+      }
+      case Move move -> {
+        writePosition(buffer, move.position());
+        buffer.putLong(move.token());
+      }
+      case MoveAccepted moveAccepted -> {
+        writePosition(buffer, moveAccepted.position());
+        writeBoard(buffer, moveAccepted.boardState());
+      }
+      case InvalidMove invalidMove -> {
+        writePosition(buffer, invalidMove.position());
+        buffer.put(toMarkerCode(invalidMove.marker()));
+        writeString(buffer, invalidMove.message());
+      }
+      case WaitOpponentsMove waitOpponentsMove ->
+          writeBoard(buffer, waitOpponentsMove.boardState());
+    }
   }
 
   byte toResultCode(PlayersResult result) {
-    return (byte) (byte) switch (result) {
+    return (byte) switch (result) {
       case VICTORY -> 0;
       case DEFEAT -> 1;
       case DRAW -> 2;
     };
   }
 
-  private byte[] write(GameEnded gameEnded) {
-    var buffer = ByteBuffer.allocate(1 + 1 + 9);
-    buffer.put(gameEnded.getCode());
-    buffer.put(toResultCode(gameEnded.result()));
-
-    var boardState = gameEnded.boardState();
-    writeBoard(buffer, boardState);
-    return buffer.array();
-  }
-
-  private byte[] write(InvalidMove invalidMove) {
-    var message = new BufferableString(invalidMove.message());
-    var buffer = ByteBuffer.allocate(1 + 4 + 4 + 1 + message.size());
-
-    buffer.put(invalidMove.getCode());
-    writePosition(buffer, invalidMove.position());
-    buffer.put(toMarkerCode(invalidMove.marker()));
-    message.putTo(buffer);
-    return buffer.array();
-  }
-
-  private byte[] write(WaitOpponentsMove move) {
-    var buffer = ByteBuffer.allocate(1 + 9);
-    buffer.put(move.getCode());
-    writeBoard(buffer, move.boardState());
-    return buffer.array();
-  }
-
   byte toMarkerCode(Marker marker) {
     return (byte) switch (marker) {
       case X -> 0;
@@ -125,40 +179,90 @@ public class MessageWriter {
     };
   }
 
+  private int positionSize() {
+    return version == ProtocolVersion.V1 ? 4 + 4 : 1;
+  }
+
   private void writePosition(ByteBuffer buffer, Position position) {
-    buffer.putInt(position.row());
-    buffer.putInt(position.column());
+    if (version == ProtocolVersion.V1) {
+      buffer.putInt(position.row());
+      buffer.putInt(position.column());
+    } else {
+      buffer.put((byte) position.index());
+    }
+  }
+
+  private int boardSize(BoardState boardState) {
+    return switch (version) {
+      case V1 -> CELLS;
+      case V2 -> 2;
+      case V3 -> boardUpdate(boardState) == BoardUpdates.SNAPSHOT ? 1 + 2 : 1;
+    };
   }
 
   private void writeBoard(ByteBuffer buffer, BoardState boardState) {
-    for (int cell = 0; cell < 9; cell++) {
-      buffer.put(
-          toMarkerCode(
-              boardState.getMarker(
-                  new Position(
-                      cell / 3,
-                      cell % 3
-                  )
-              )
-          )
-      );
+    switch (version) {
+      case V1 -> {
+        for (int cell = 0; cell < CELLS; cell++) {
+          buffer.put(toMarkerCode(boardState.getMarker(cell)));
+        }
+      }
+      case V2 -> buffer.putShort((short) boardState.code());
+      case V3 -> {
+        int update = boardUpdate(boardState);
+        buffer.put((byte) BoardUpdates.header(update, boardSequence));
+        if (update == BoardUpdates.SNAPSHOT) {
+          buffer.putShort((short) boardState.code());
+          snapshotRequested = false;
+        }
+        lastBoard = boardState;
+        boardSequence++;
+      }
     }
   }
 
-  private record BufferableString(byte[] data) {
+  private int boardUpdate(BoardState boardState) {
+    if (snapshotRequested || boardSequence % BoardUpdates.SNAPSHOT_INTERVAL == 0) {
+      return BoardUpdates.SNAPSHOT;
+    }
+
+    return BoardUpdates.delta(lastBoard, boardState);
+  }
 
-    BufferableString(String value) {
-      this(value.getBytes(StandardCharsets.UTF_8));
+  private int versionSize(byte versionCode) {
+    return versionCode == ProtocolVersion.V1.code() ? 0 : 1;
+  }
+
+  private void writeVersion(ByteBuffer buffer, byte versionCode) {
+    if (versionCode != ProtocolVersion.V1.code()) {
+      buffer.put(versionCode);
     }
+  }
 
-    void putTo(ByteBuffer buffer) {
-      buffer.putInt(data.length);
-      buffer.put(data);
+  private int stringSize(String value) {
+    if (version == ProtocolVersion.V1) {
+      return v1StringSize(value);
     }
 
-    int size() {
-      return 4 + data.length;
+    int length = Utf8.length(value);
+    return VarInt.size(length) + length;
+  }
+
+  private void writeString(ByteBuffer buffer, String value) {
+    if (version == ProtocolVersion.V1) {
+      writeV1String(buffer, value);
+    } else {
+      VarInt.put(buffer, Utf8.length(value));
+      Utf8.encode(value, buffer);
     }
   }
 
+  private int v1StringSize(String value) {
+    return 4 + Utf8.length(value);
+  }
+
+  private void writeV1String(ByteBuffer buffer, String value) {
+    buffer.putInt(Utf8.length(value));
+    Utf8.encode(value, buffer);
+  }
 }
@@ -0,0 +1,91 @@
+package bakeit.club.tictactoe.net;
+
+/**
+ * A version of the wire format of the messages.
+ * <p>
+ * The version is negotiated when a player joins a game. The client sends the latest version it
+ * supports in the {@link JoinGame} message and the server replies with the version used for the
+ * rest of the game in the {@link GameStarted} message. Both of these messages are always encoded
+ * in the version {@link #V1} and the version is appended to them as a trailing byte only if it is
+ * not {@link #V1}. The peers not aware of the versions ignore the trailing byte, so they keep
+ * talking the version {@link #V1}.
+ * </p>
+ */
+public enum ProtocolVersion {
+
+  /**
+   * The original format: positions as two 4-byte integers, boards as nine marker bytes and string
+   * lengths as 4-byte integers.
+   */
+  V1((byte) 1),
+
+  /**
+   * The compact format: positions as a single cell index byte, boards as the 2-byte base-3 code of
+   * the board state and string lengths as unsigned variable-length integers.
+   */
+  V2((byte) 2),
+
+  /**
+   * The {@link #V2} format with board updates: a board is transferred as the marker placed since
+   * the board previously transferred over the connection together with a sequence number, full
+   * snapshots are sent periodically and whenever the sender forces one by
+   * {@link MessageWriter#requestSnapshot()}. A snapshot also resynchronizes the sequence. The
+   * peers keep the board locally.
+   */
+  V3((byte) 3);
+
+  /**
+   * The latest version supported by this implementation.
+   */
+  public static final ProtocolVersion LATEST = V3;
+
+  private final byte code;
+
+  ProtocolVersion(byte code) {
+    this.code = code;
+  }
+
+  /**
+   * Gets the code of this version as it is transferred over the wire.
+   *
+   * @return the version code
+   */
+  public byte code() {
+    return code;
+  }
+
+  /**
+   * Gets the version for the given code.
+   *
+   * @param code the version code
+   * @return the version
+   * @throws IllegalArgumentException If the code is not a known version.
+   */
+  public static ProtocolVersion ofCode(byte code) {
+    for (ProtocolVersion version : values()) {
+      if (version.code == code) {
+        return version;
+      }
+    }
+
+    throw new IllegalArgumentException("Unsupported protocol version: " + code);
+  }
+
+  /**
+   * Negotiates the version used by both peers.
+   *
+   * @param latestCode the code of the latest version supported by the other peer, it may be a
+   *                   version unknown to this implementation
+   * @return the latest version supported by both peers
+   */
+  public static ProtocolVersion negotiate(byte latestCode) {
+    ProtocolVersion negotiated = V1;
+    for (ProtocolVersion version : values()) {
+      if (version.code <= latestCode) {
+        negotiated = version;
+      }
+    }
+
+    return negotiated;
+  }
+}
@@ -0,0 +1,74 @@
+package bakeit.club.tictactoe.net;
+
+import java.nio.ByteBuffer;
+
+/**
+ * UTF-8 encoding of strings directly into byte buffers. The encoding is the same as the one of
+ * {@link String#getBytes(java.nio.charset.Charset)}, the unpaired surrogates are replaced by
+ * {@code '?'}, but no intermediate array is allocated.
+ */
+final class Utf8 {
+
+  private Utf8() {
+  }
+
+  /**
+   * Gets the number of bytes of the UTF-8 encoded string.
+   *
+   * @param value the string
+   * @return the number of bytes {@link #encode(String, ByteBuffer)} writes
+   */
+  static int length(String value) {
+    int length = 0;
+    for (int i = 0; i < value.length(); i++) {
+      char c = value.charAt(i);
+      if (c < 0x80) {
+        length += 1;
+      } else if (c < 0x800) {
+        length += 2;
+      } else if (isPair(value, i)) {
+        length += 4;
+        i++;
+      } else {
+        length += Character.isSurrogate(c) ? 1 : 3;
+      }
+    }
+    return length;
+  }
+
+  /**
+   * Encodes the string into the buffer at its current position.
+   *
+   * @param value  the string
+   * @param buffer the buffer with enough remaining space
+   */
+  static void encode(String value, ByteBuffer buffer) {
+    for (int i = 0; i < value.length(); i++) {
+      char c = value.charAt(i);
+      if (c < 0x80) {
+        buffer.put((byte) c);
+      } else if (c < 0x800) {
+        buffer.put((byte) (0xC0 | c >> 6));
+        buffer.put((byte) (0x80 | c & 0x3F));
+      } else if (isPair(value, i)) {
+        int codePoint = Character.toCodePoint(c, value.charAt(++i));
+        buffer.put((byte) (0xF0 | codePoint >> 18));
+        buffer.put((byte) (0x80 | codePoint >> 12 & 0x3F));
+        buffer.put((byte) (0x80 | codePoint >> 6 & 0x3F));
+        buffer.put((byte) (0x80 | codePoint & 0x3F));
+      } else if (Character.isSurrogate(c)) {
+        buffer.put((byte) '?');
+      } else {
+        buffer.put((byte) (0xE0 | c >> 12));
+        buffer.put((byte) (0x80 | c >> 6 & 0x3F));
+        buffer.put((byte) (0x80 | c & 0x3F));
+      }
+    }
+  }
+
+  private static boolean isPair(String value, int index) {
+    return Character.isHighSurrogate(value.charAt(index))
+        && index + 1 < value.length()
+        && Character.isLowSurrogate(value.charAt(index + 1));
+  }
+}
@@ -0,0 +1,59 @@
+package bakeit.club.tictactoe.net;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+
+/**
+ * Unsigned variable-length integers. Every byte holds seven bits of the value starting with the
+ * least significant ones, the highest bit of the byte is set if more bytes follow.
+ */
+final class VarInt {
+
+  private static final int MAX_SIZE = 5;
+
+  private VarInt() {
+  }
+
+  /**
+   * Gets the number of bytes of the encoded value.
+   *
+   * @param value the non-negative value
+   * @return the number of bytes in the range {@code <1, 5>}
+   */
+  static int size(int value) {
+    int size = 1;
+    while ((value >>>= 7) != 0) {
+      size++;
+    }
+    return size;
+  }
+
+  static void put(ByteBuffer buffer, int value) {
+    while ((value & ~0x7F) != 0) {
+      buffer.put((byte) (value & 0x7F | 0x80));
+      value >>>= 7;
+    }
+    buffer.put((byte) value);
+  }
+
+  /**
+   * Reads a value.
+   *
+   * @param buffer the buffer positioned at the value
+   * @return the decoded value
+   * @throws BufferUnderflowException If the buffer ends in the middle of the value.
+   * @throws IllegalStateException    If the value does not fit into an {@code int}.
+   */
+  static int get(ByteBuffer buffer) {
+    int value = 0;
+    for (int i = 0; i < MAX_SIZE; i++) {
+      byte b = buffer.get();
+      value |= (b & 0x7F) << (7 * i);
+      if (b >= 0) {
+        return value;
+      }
+    }
+
+    throw new IllegalStateException("The variable-length integer is too long.");
+  }
+}
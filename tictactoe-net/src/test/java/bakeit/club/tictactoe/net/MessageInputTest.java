@@ -0,0 +1,53 @@
+package bakeit.club.tictactoe.net;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import bakeit.club.tictactoe.game.Marker;
+import bakeit.club.tictactoe.game.Position;
+import java.io.ByteArrayInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import org.junit.jupiter.api.Test;
+
+class MessageInputTest {
+
+  MessageWriter writer = new MessageWriter();
+
+  @Test
+  void readsFramesSplitAcrossReads() throws IOException {
+    String longName = "x".repeat(2000);
+    ByteBuffer frames = ByteBuffer.allocate(4096);
+    writer.encode(new JoinGame("Filip"), frames);
+    writer.encode(new InvalidMove(Position.of(1, 1), Marker.X, longName), frames);
+    writer.encode(new JoinGame("Max"), frames);
+    byte[] data = Arrays.copyOf(frames.array(), frames.position());
+
+    MessageInput cut = new MessageInput(new TrickleInputStream(data, 7), new MessageReader());
+
+    assertEquals(new JoinGame("Filip"), cut.read());
+    assertEquals(new InvalidMove(Position.of(1, 1), Marker.X, longName), cut.read());
+    assertEquals(new JoinGame("Max"), cut.read());
+    assertThrows(EOFException.class, cut::read);
+  }
+
+  /**
+   * A stream returning at most the given number of bytes from every read.
+   */
+  private static class TrickleInputStream extends ByteArrayInputStream {
+
+    private final int chunk;
+
+    TrickleInputStream(byte[] data, int chunk) {
+      super(data);
+      this.chunk = chunk;
+    }
+
+    @Override
+    public synchronized int read(byte[] b, int off, int len) {
+      return super.read(b, off, Math.min(len, chunk));
+    }
+  }
+}
@@ -0,0 +1,50 @@
+package bakeit.club.tictactoe.net;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import bakeit.club.tictactoe.game.BoardState;
+import bakeit.club.tictactoe.game.Marker;
+import bakeit.club.tictactoe.game.Position;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class MessageOutputTest {
+
+  @Test
+  void flushWritesQueuedFramesAtOnce() throws IOException {
+    CountingOutputStream stream = new CountingOutputStream();
+    MessageOutput cut = new MessageOutput(stream, new MessageWriter());
+    List<Message> messages = List.of(
+        new MoveAccepted(Position.of(1, 1), BoardState.empty().withMarker(4, Marker.X)),
+        new WaitOpponentsMove(BoardState.empty().withMarker(4, Marker.X)),
+        new InvalidMove(Position.of(0, 0), Marker.O, "x".repeat(1000))
+    );
+
+    messages.forEach(cut::enqueue);
+    assertEquals(0, stream.writes);
+    cut.flush();
+    cut.flush();
+
+    assertEquals(1, stream.writes);
+    assertEquals(0, cut.pendingBytes());
+    MessageInput input = new MessageInput(
+        new ByteArrayInputStream(stream.toByteArray()), new MessageReader());
+    for (Message message : messages) {
+      assertEquals(message, input.read());
+    }
+  }
+
+  private static class CountingOutputStream extends ByteArrayOutputStream {
+
+    private int writes;
+
+    @Override
+    public synchronized void write(byte[] b, int off, int len) {
+      writes++;
+      super.write(b, off, len);
+    }
+  }
+}
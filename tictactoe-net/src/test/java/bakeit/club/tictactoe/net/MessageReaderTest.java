@@ -1,6 +1,10 @@
 package bakeit.club.tictactoe.net;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import bakeit.club.tictactoe.game.BoardState;
 import bakeit.club.tictactoe.game.Marker;
@@ -8,7 +12,10 @@ import bakeit.club.tictactoe.game.PlayersResult;
 import bakeit.club.tictactoe.game.Position;
 import java.nio.ByteBuffer;
 import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.List;
 import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EnumSource;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -24,7 +31,7 @@ class MessageReaderTest {
     return Stream.of(
         new GameStarted(Marker.X, "Max"),
         new JoinGame("Filip"),
-        new MakeMove(RANDOM.nextLong(), new BoardState(
+        new MakeMove(RANDOM.nextLong(), BoardState.of(
             Marker.O, Marker.X, Marker.EMPTY,
             Marker.X, Marker.O, Marker.EMPTY,
             Marker.X, Marker.X, Marker.EMPTY
@@ -36,12 +43,12 @@ class MessageReaderTest {
             ),
             RANDOM.nextLong()
         ),
-        new MoveAccepted(new Position(2, 1), new BoardState(
+        new MoveAccepted(new Position(2, 1), BoardState.of(
             Marker.O, Marker.X, Marker.EMPTY,
             Marker.X, Marker.O, Marker.EMPTY,
             Marker.X, Marker.X, Marker.O
         )),
-        new GameEnded(PlayersResult.DEFEAT, new BoardState(
+        new GameEnded(PlayersResult.DEFEAT, BoardState.of(
             Marker.O, Marker.X, Marker.EMPTY,
             Marker.X, Marker.O, Marker.EMPTY,
             Marker.X, Marker.X, Marker.O
@@ -95,4 +102,189 @@ class MessageReaderTest {
 
   }
 
-}
\ No newline at end of file
+  @ParameterizedTest
+  @MethodSource("read")
+  void decode_directBuffer(Message message) {
+    ByteBuffer buffer = ByteBuffer.allocateDirect(256);
+    writer.encode(message, buffer);
+    buffer.flip();
+
+    Message actual = cut.decode(buffer);
+
+    assertEquals(message, actual);
+    assertFalse(buffer.hasRemaining());
+  }
+
+  @Test
+  void decode_moreFrames() {
+    BoardState board = BoardState.empty().withMarker(4, Marker.X);
+    ByteBuffer buffer = ByteBuffer.allocate(256);
+    writer.encode(new JoinGame("Filip"), buffer);
+    writer.encode(new WaitOpponentsMove(board), buffer);
+    buffer.flip();
+
+    assertEquals(new JoinGame("Filip"), cut.decode(buffer));
+    WaitOpponentsMove actual = (WaitOpponentsMove) cut.decode(buffer);
+    assertSame(board, actual.boardState());
+    assertNull(cut.decode(buffer));
+  }
+
+  @Test
+  void decode_partialFrame() {
+    ByteBuffer frame = ByteBuffer.allocate(256);
+    writer.encode(new GameStarted(Marker.O, "Max"), frame);
+    frame.flip();
+    ByteBuffer buffer = ByteBuffer.allocate(256);
+
+    for (int i = 0; i < frame.limit() - 1; i++) {
+      buffer.put(frame.get()).flip();
+      assertNull(cut.decode(buffer));
+      assertEquals(0, buffer.position());
+      buffer.position(buffer.limit()).limit(buffer.capacity());
+    }
+
+    buffer.put(frame.get()).flip();
+    assertEquals(new GameStarted(Marker.O, "Max"), cut.decode(buffer));
+  }
+
+  @Test
+  void decode_invalidSize() {
+    ByteBuffer buffer = ByteBuffer.allocate(8).putInt(MessageReader.MAX_MESSAGE_SIZE + 1).flip();
+
+    assertThrows(IllegalStateException.class, () -> cut.decode(buffer));
+  }
+
+  @Test
+  void decode_messageLongerThanFrame() {
+    ByteBuffer buffer = ByteBuffer.allocate(16).putInt(2).put((byte) 7).put((byte) 0).flip();
+
+    assertThrows(IllegalStateException.class, () -> cut.decode(buffer));
+  }
+
+  @ParameterizedTest
+  @MethodSource("read")
+  void decode_v2(Message message) {
+    writer.setVersion(ProtocolVersion.V2);
+    cut.setVersion(ProtocolVersion.V2);
+    ByteBuffer buffer = ByteBuffer.allocate(256);
+    writer.encode(message, buffer);
+    buffer.flip();
+
+    Message actual = cut.decode(buffer);
+
+    assertEquals(message, actual);
+    assertFalse(buffer.hasRemaining());
+  }
+
+  @Test
+  void read_handshakeVersions() {
+    JoinGame joinGame = new JoinGame("Filip", ProtocolVersion.V2);
+    GameStarted gameStarted = new GameStarted(Marker.X, "Max", ProtocolVersion.V2);
+
+    assertEquals(joinGame, cut.read(writer.write(joinGame)));
+    assertEquals(gameStarted, cut.read(writer.write(gameStarted)));
+  }
+
+  @Test
+  void read_joinGameKeepsUnknownVersion() {
+    byte[] data = writer.write(new JoinGame("Filip", (byte) 42));
+
+    assertEquals(new JoinGame("Filip", (byte) 42), cut.read(data));
+  }
+
+  @Test
+  void decode_v3BoardUpdates() {
+    writer.setVersion(ProtocolVersion.V3);
+    cut.setVersion(ProtocolVersion.V3);
+    BoardState board1 = BoardState.empty().withMarker(4, Marker.X);
+    BoardState board2 = board1.withMarker(0, Marker.O);
+    List<Message> messages = List.of(
+        new WaitOpponentsMove(BoardState.empty()),
+        new WaitOpponentsMove(board1),
+        new MakeMove(1, board1),
+        new MoveAccepted(Position.ofIndex(0), board2),
+        new GameEnded(PlayersResult.DRAW, BoardState.empty().withMarker(8, Marker.O))
+    );
+    ByteBuffer buffer = ByteBuffer.allocate(256);
+    for (Message message : messages) {
+      writer.encode(message, buffer);
+    }
+    buffer.flip();
+
+    for (Message message : messages) {
+      assertEquals(message, cut.decode(buffer));
+    }
+    assertFalse(buffer.hasRemaining());
+  }
+
+  @Test
+  void decode_v3SequenceMismatch() {
+    writer.setVersion(ProtocolVersion.V3);
+    cut.setVersion(ProtocolVersion.V3);
+    ByteBuffer buffer = ByteBuffer.allocate(256);
+    writer.encode(new WaitOpponentsMove(BoardState.empty()), buffer);
+    buffer.clear();
+    writer.encode(new WaitOpponentsMove(BoardState.empty().withMarker(4, Marker.X)), buffer);
+    buffer.flip();
+
+    assertThrows(IllegalStateException.class, () -> cut.decode(buffer));
+  }
+
+  @Test
+  void decode_v3SnapshotResynchronizes() {
+    writer.setVersion(ProtocolVersion.V3);
+    cut.setVersion(ProtocolVersion.V3);
+    BoardState board = BoardState.empty().withMarker(4, Marker.X);
+    ByteBuffer buffer = ByteBuffer.allocate(256);
+    writer.encode(new WaitOpponentsMove(BoardState.empty()), buffer);
+    writer.encode(new WaitOpponentsMove(board), buffer);
+    buffer.flip();
+    cut.decode(buffer);
+    cut.decode(buffer);
+    buffer.clear();
+    writer.encode(new WaitOpponentsMove(board.withMarker(0, Marker.O)), buffer);
+    writer.requestSnapshot();
+    writer.encode(new WaitOpponentsMove(board.withMarker(0, Marker.O)), buffer);
+    writer.encode(new WaitOpponentsMove(board.withMarker(0, Marker.O).withMarker(8, Marker.X)),
+        buffer);
+    buffer.flip();
+    // the frame of the first update is lost: the length, the message code and the header
+    buffer.position(MessageWriter.LENGTH_PREFIX_SIZE + 2);
+
+    assertEquals(new WaitOpponentsMove(board.withMarker(0, Marker.O)), cut.decode(buffer));
+    assertEquals(new WaitOpponentsMove(board.withMarker(0, Marker.O).withMarker(8, Marker.X)),
+        cut.decode(buffer));
+  }
+
+  @Test
+  void decode_v3RejectedFrameKeepsBoard() {
+    writer.setVersion(ProtocolVersion.V3);
+    cut.setVersion(ProtocolVersion.V3);
+    BoardState board = BoardState.empty().withMarker(4, Marker.X);
+    ByteBuffer buffer = ByteBuffer.allocate(256);
+    writer.encode(new WaitOpponentsMove(BoardState.empty()), buffer);
+    writer.encode(new WaitOpponentsMove(board), buffer);
+    buffer.flip();
+    cut.decode(buffer);
+    ByteBuffer update = buffer.slice();
+    ByteBuffer invalid = ByteBuffer.allocate(16)
+        .putInt(update.getInt(0) + 1).put(update.get(4)).put(update.get(5)).put((byte) 0)
+        .flip();
+
+    assertThrows(IllegalStateException.class, () -> cut.decode(invalid));
+    assertEquals(new WaitOpponentsMove(board), cut.decode(update));
+  }
+
+  @Test
+  void read_v3RejectedUpdateKeepsBoard() {
+    writer.setVersion(ProtocolVersion.V3);
+    cut.setVersion(ProtocolVersion.V3);
+    BoardState board = BoardState.empty().withMarker(4, Marker.X);
+    cut.read(writer.write(new WaitOpponentsMove(BoardState.empty())));
+    byte[] update = writer.write(new WaitOpponentsMove(board));
+    byte[] invalid = Arrays.copyOf(update, update.length + 1);
+
+    assertThrows(IllegalStateException.class, () -> cut.read(invalid));
+    assertEquals(new WaitOpponentsMove(board), cut.read(update));
+  }
+}
@@ -3,16 +3,21 @@ package bakeit.club.tictactoe.net;
 import static bakeit.club.tictactoe.game.Marker.EMPTY;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import bakeit.club.tictactoe.game.BoardState;
 import bakeit.club.tictactoe.game.Marker;
 import bakeit.club.tictactoe.game.PlayersResult;
 import bakeit.club.tictactoe.game.Position;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.security.SecureRandom;
+import java.util.Arrays;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
 
 class MessageWriterTest {
 
@@ -59,7 +64,7 @@ class MessageWriterTest {
   @Test
   void writeWaitOpponentsMove() {
     byte[] actual = cut.write(new WaitOpponentsMove(
-        new BoardState(EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY)
+        BoardState.of(EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY)
     ));
     assertArrayEquals(new byte[]{7, 2, 2, 2, 2, 2, 2, 2, 2, 2}, actual);
   }
@@ -92,7 +97,7 @@ class MessageWriterTest {
   void writeMakeMove() {
     long token = random.nextLong();
     MakeMove message = new MakeMove(token,
-        new BoardState(
+        BoardState.of(
             EMPTY, EMPTY, EMPTY,
             EMPTY, Marker.X, EMPTY,
             Marker.O, EMPTY, EMPTY
@@ -138,7 +143,7 @@ class MessageWriterTest {
   @Test
   void writeMoveAccepted() {
     MoveAccepted message = new MoveAccepted(new Position(1, 1),
-        new BoardState(
+        BoardState.of(
             EMPTY, EMPTY, EMPTY,
             EMPTY, Marker.X, EMPTY,
             EMPTY, EMPTY, EMPTY)
@@ -179,4 +184,96 @@ class MessageWriterTest {
         data[0], data[1], data[2]
     });
   }
-}
\ No newline at end of file
+
+  @Test
+  void encode() {
+    JoinGame message = new JoinGame("Ann");
+    ByteBuffer buffer = ByteBuffer.allocateDirect(32);
+    buffer.put((byte) 42);
+
+    int actual = cut.encode(message, buffer);
+
+    assertEquals(4 + 1 + 4 + 3, actual);
+    assertEquals(actual, cut.frameSize(message));
+    assertEquals(1 + actual, buffer.position());
+    byte[] frame = new byte[actual];
+    buffer.flip().position(1);
+    buffer.get(frame);
+    assertArrayEquals(new byte[]{
+        0, 0, 0, 8, // frame length
+        1, // JoinGame
+        0, 0, 0, 3, 'A', 'n', 'n'
+    }, frame);
+  }
+
+  @Test
+  void encode_bufferOverflow() {
+    ByteBuffer buffer = ByteBuffer.allocate(10);
+
+    assertThrows(BufferOverflowException.class,
+        () -> cut.encode(new WaitOpponentsMove(BoardState.empty()), buffer));
+    assertEquals(0, buffer.position());
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {
+      "", "Alex", "\u017dofia", "\u6c34\u6ef4", "\ud83d\ude00", "\ud83d", "a\ude00b"
+  })
+  void encode_matchesWriteForStrings(String name) {
+    GameStarted message = new GameStarted(Marker.O, name);
+    ByteBuffer buffer = ByteBuffer.allocate(64);
+
+    cut.encode(message, buffer);
+
+    byte[] expected = cut.write(message);
+    assertEquals(expected.length, buffer.getInt(0));
+    assertArrayEquals(expected, Arrays.copyOfRange(buffer.array(), 4, buffer.position()));
+    assertArrayEquals(name.getBytes(StandardCharsets.UTF_8),
+        Arrays.copyOfRange(expected, 6, expected.length));
+  }
+
+  @Test
+  void writeJoinGame_latestVersion() {
+    byte[] actual = cut.write(new JoinGame("Al", ProtocolVersion.V2));
+
+    assertArrayEquals(new byte[]{1, 0, 0, 0, 2, 'A', 'l', 2}, actual);
+  }
+
+  @Test
+  void writeMoveAccepted_v2() {
+    BoardState boardState = BoardState.empty().withMarker(new Position(2, 1), Marker.O);
+    cut.setVersion(ProtocolVersion.V2);
+
+    byte[] actual = cut.write(new MoveAccepted(new Position(2, 1), boardState));
+
+    int code = boardState.code();
+    assertArrayEquals(new byte[]{4, 7, (byte) (code >>> 8), (byte) code}, actual);
+  }
+
+  @Test
+  void writeInvalidMove_v2() {
+    cut.setVersion(ProtocolVersion.V2);
+
+    byte[] actual = cut.write(new InvalidMove(new Position(0, 2), Marker.X, "a".repeat(130)));
+
+    assertEquals(1 + 1 + 1 + 2 + 130, actual.length);
+    assertArrayEquals(new byte[]{6, 2, 0, (byte) 0x82, 1}, Arrays.copyOf(actual, 5));
+  }
+
+  @Test
+  void writeWaitOpponentsMove_v3() {
+    BoardState board = BoardState.empty().withMarker(new Position(1, 1), Marker.X);
+    cut.setVersion(ProtocolVersion.V3);
+
+    byte[] snapshot = cut.write(new WaitOpponentsMove(board));
+    byte[] delta = cut.write(new WaitOpponentsMove(board.withMarker(new Position(2, 0), Marker.O)));
+    byte[] unchanged = cut.write(new WaitOpponentsMove(board.withMarker(6, Marker.O)));
+    cut.requestSnapshot();
+    byte[] requested = cut.write(new WaitOpponentsMove(board.withMarker(6, Marker.O)));
+
+    assertArrayEquals(new byte[]{7, BoardUpdates.SNAPSHOT, 0, 81}, snapshot);
+    assertArrayEquals(new byte[]{7, 1 << 5 | 1 << 4 | 6}, delta);
+    assertArrayEquals(new byte[]{7, 2 << 5 | BoardUpdates.UNCHANGED}, unchanged);
+    assertEquals(3 << 5 | BoardUpdates.SNAPSHOT, requested[1]);
+  }
+}
@@ -0,0 +1,25 @@
+package bakeit.club.tictactoe.net;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+class ProtocolVersionTest {
+
+  @Test
+  void negotiate() {
+    assertEquals(ProtocolVersion.V1, ProtocolVersion.negotiate((byte) 0));
+    assertEquals(ProtocolVersion.V1, ProtocolVersion.negotiate(ProtocolVersion.V1.code()));
+    assertEquals(ProtocolVersion.V2, ProtocolVersion.negotiate(ProtocolVersion.V2.code()));
+    assertEquals(ProtocolVersion.LATEST, ProtocolVersion.negotiate((byte) 42));
+  }
+
+  @Test
+  void ofCode() {
+    for (ProtocolVersion version : ProtocolVersion.values()) {
+      assertEquals(version, ProtocolVersion.ofCode(version.code()));
+    }
+    assertThrows(IllegalArgumentException.class, () -> ProtocolVersion.ofCode((byte) 42));
+  }
+}
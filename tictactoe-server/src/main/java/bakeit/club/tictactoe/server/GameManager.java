@@ -1,29 +1,34 @@
 package bakeit.club.tictactoe.server;
 
 import bakeit.club.tictactoe.game.Game;
+import bakeit.club.tictactoe.game.GameListener;
 import java.io.IOException;
 import java.util.Objects;
 
 class GameManager implements Runnable {
 
   private final int gameId;
+  private final GameListener listener;
   private ServerPlayer player1;
   private ServerPlayer player2;
 
-  public GameManager(int gameId) {
+  public GameManager(int gameId, GameListener listener) {
     this.gameId = gameId;
+    this.listener = listener;
   }
 
   public void run() {
     Objects.requireNonNull(player1);
     Objects.requireNonNull(player2);
+    player1.setOpponent(player2);
+    player2.setOpponent(player1);
     try {
       player1.readName();
       log("Received player1 name: " + player1.getName());
       player2.readName();
       log("Received player2 name: " + player2.getName());
 
-      Game game = new Game(player1, player2);
+      Game game = new Game(player1, player2, listener);
       game.play();
 
     } finally {
@@ -1,5 +1,6 @@
 package bakeit.club.tictactoe.server;
 
+import bakeit.club.tictactoe.game.AsyncLoggingGameListener;
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.net.InetAddress;
@@ -19,6 +20,7 @@ public class GameServer {
   private static final int PORT = 9000;
   private static final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
   private static AtomicInteger gameIdSequence = new AtomicInteger(1);
+  private static final AsyncLoggingGameListener gameEvents = new AsyncLoggingGameListener();
 
   public static void main(String[] args) throws IOException {
     System.out.println("Tic-Tac-Toe Server v0.1");
@@ -34,7 +36,8 @@ public class GameServer {
     while (true) {
       Socket socket = serverSocket.accept();
       if (gameManager == null) {
-        gameManager = new GameManager(gameIdSequence.getAndIncrement());
+        int gameId = gameIdSequence.getAndIncrement();
+        gameManager = new GameManager(gameId, gameEvents.forGame("Game[" + gameId + "]"));
         gameManager.setPlayer1(new ServerPlayer(socket));
       } else {
         gameManager.setPlayer2(new ServerPlayer(socket));
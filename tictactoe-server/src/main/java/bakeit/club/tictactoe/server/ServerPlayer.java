@@ -12,13 +12,14 @@ import bakeit.club.tictactoe.net.GameEnded;
 import bakeit.club.tictactoe.net.InvalidMove;
 import bakeit.club.tictactoe.net.MakeMove;
 import bakeit.club.tictactoe.net.Message;
+import bakeit.club.tictactoe.net.MessageInput;
+import bakeit.club.tictactoe.net.MessageOutput;
 import bakeit.club.tictactoe.net.MessageReader;
 import bakeit.club.tictactoe.net.MessageWriter;
 import bakeit.club.tictactoe.net.Move;
 import bakeit.club.tictactoe.net.MoveAccepted;
+import bakeit.club.tictactoe.net.ProtocolVersion;
 import bakeit.club.tictactoe.net.WaitOpponentsMove;
-import java.io.DataInputStream;
-import java.io.DataOutputStream;
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.net.Socket;
@@ -32,25 +33,39 @@ class ServerPlayer implements Player, AutoCloseable {
   private final Socket socket;
   private final MessageWriter messageWriter = new MessageWriter();
   private final MessageReader messageReader = new MessageReader();
-  private final DataOutputStream dataOutputStream;
-  private final DataInputStream dataInputStream;
+  private final MessageOutput messageOutput;
+  private final MessageInput messageInput;
   private Marker marker;
+  private ProtocolVersion protocolVersion = ProtocolVersion.V1;
+  private ServerPlayer opponent;
 
   ServerPlayer(
       Socket socket
   ) {
     this.socket = socket;
     try {
-      this.dataOutputStream = new DataOutputStream(socket.getOutputStream());
-      this.dataInputStream = new DataInputStream(socket.getInputStream());
+      this.messageOutput = new MessageOutput(socket.getOutputStream(), messageWriter);
+      this.messageInput = new MessageInput(socket.getInputStream(), messageReader);
     } catch (IOException e) {
       throw new UncheckedIOException(e);
     }
   }
 
+  /**
+   * Sets the opponent whose queued messages are flushed together with the messages of this player
+   * before this player blocks waiting for a move, so the frames of one game step are written by a
+   * single write per connection.
+   *
+   * @param opponent the opponent in the game
+   */
+  void setOpponent(ServerPlayer opponent) {
+    this.opponent = opponent;
+  }
+
   public void readName() {
     JoinGame joinGame = readMessage(JoinGame.class);
     name = joinGame.playerName();
+    protocolVersion = ProtocolVersion.negotiate(joinGame.protocolVersion());
   }
 
   @Override
@@ -58,10 +73,20 @@ class ServerPlayer implements Player, AutoCloseable {
     return name;
   }
 
+  ProtocolVersion getProtocolVersion() {
+    return protocolVersion;
+  }
+
+  int pendingBytes() {
+    return messageOutput.pendingBytes();
+  }
+
   @Override
   public void gameStarted(PlayerGameInfo info) {
     this.marker = info.assignedMarker();
-    writeMessage(new GameStarted(marker, info.opponentsName()));
+    writeMessage(new GameStarted(marker, info.opponentsName(), protocolVersion));
+    messageWriter.setVersion(protocolVersion);
+    messageReader.setVersion(protocolVersion);
   }
 
   @Override
@@ -101,37 +126,51 @@ class ServerPlayer implements Player, AutoCloseable {
 
   @Override
   public void gameEnded(BoardState boardState, PlayersResult result) {
+    messageWriter.requestSnapshot();
     writeMessage(
         new GameEnded(
             result,
             boardState
         )
     );
+    flush();
   }
 
+  /**
+   * Closes the connection. The queued messages are written before, as long as the connection
+   * allows, so the client learns why the game has ended even when it has ended by an exception.
+   */
   @Override
   public void close() throws IOException {
-    socket.close();
+    try {
+      messageOutput.flush();
+    } catch (IOException e) {
+      // best effort, the connection is closed anyway
+    } finally {
+      socket.close();
+    }
   }
 
   private void writeMessage(Message message) {
+    messageOutput.enqueue(message);
+  }
+
+  private void flush() {
     try {
-      byte[] data = messageWriter.write(message);
-      dataOutputStream.writeInt(data.length);
-      dataOutputStream.write(data);
-      dataOutputStream.flush();
+      messageOutput.flush();
     } catch (IOException e) {
-      throw new RuntimeException(e);
+      throw new UncheckedIOException(e);
     }
   }
 
   private <T extends Message> T readMessage(Class<T> type) {
-    try {
-      int frameLength = dataInputStream.readInt();
-      byte[] data = new byte[frameLength];
-      dataInputStream.readFully(data);
+    if (opponent != null) {
+      opponent.flush();
+    }
+    flush();
 
-      Message message = messageReader.read(data);
+    try {
+      Message message = messageInput.read();
 
       if (type.isInstance(message)) {
         return type.cast(message);
@@ -0,0 +1,225 @@
+package bakeit.club.tictactoe.server;
+
+import static bakeit.club.tictactoe.game.Marker.EMPTY;
+import static bakeit.club.tictactoe.game.Marker.O;
+import static bakeit.club.tictactoe.game.Marker.X;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import bakeit.club.tictactoe.client.ClientPlayer;
+import bakeit.club.tictactoe.game.BoardState;
+import bakeit.club.tictactoe.game.GameListener;
+import bakeit.club.tictactoe.game.Player;
+import bakeit.club.tictactoe.game.PlayerGameInfo;
+import bakeit.club.tictactoe.game.PlayersResult;
+import bakeit.club.tictactoe.game.Position;
+import bakeit.club.tictactoe.net.ProtocolVersion;
+import java.io.FilterInputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+class GameManagerTest {
+
+  private final List<ServerPlayer> players = new ArrayList<>();
+  private final List<CountingSocket> sockets = new ArrayList<>();
+
+  @Test
+  @Timeout(10)
+  void playTheGameWithLatestProtocol() throws Exception {
+    ScriptedPlayer alice = new ScriptedPlayer("Alice",
+        Position.of(0, 0), Position.of(0, 1), Position.of(0, 2));
+    ScriptedPlayer bob = new ScriptedPlayer("Bob",
+        Position.of(0, 0), Position.of(1, 0), Position.of(1, 1));
+
+    try (ServerSocket serverSocket = new ServerSocket(0)) {
+      playGame(serverSocket, alice, bob);
+    }
+
+    BoardState finalBoard = BoardState.of(
+        X, X, X,
+        O, O, EMPTY,
+        EMPTY, EMPTY, EMPTY
+    );
+    assertEquals(ProtocolVersion.LATEST, players.get(0).getProtocolVersion());
+    assertEquals(ProtocolVersion.LATEST, players.get(1).getProtocolVersion());
+    assertEquals(X, alice.gameInfo.assignedMarker());
+    assertEquals("Bob", alice.gameInfo.opponentsName());
+    assertEquals(PlayersResult.VICTORY, alice.result);
+    assertEquals(PlayersResult.DEFEAT, bob.result);
+    assertEquals(finalBoard, alice.boards.getLast());
+    assertEquals(finalBoard, bob.boards.getLast());
+    assertEquals(List.of(Position.of(0, 0)), bob.rejected);
+    // the board of the last move of O rebuilt from the board updates
+    assertEquals(BoardState.of(X, X, EMPTY, O, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY),
+        bob.boardsToMove.getLast());
+  }
+
+  @Test
+  @Timeout(10)
+  void coalesceFramesOfEveryStep() throws Exception {
+    ScriptedPlayer alice = new ScriptedPlayer("Alice",
+        Position.of(0, 0), Position.of(0, 1), Position.of(0, 2));
+    ScriptedPlayer bob = new ScriptedPlayer("Bob",
+        Position.of(0, 0), Position.of(1, 0), Position.of(1, 1));
+
+    try (ServerSocket serverSocket = new CountingServerSocket()) {
+      playGame(serverSocket, alice, bob);
+    }
+
+    // six requests for a move, one of them rejected, and the end of the game
+    assertEquals(7, sockets.get(0).writes);
+    assertEquals(7, sockets.get(1).writes);
+    assertEquals(PlayersResult.VICTORY, alice.result);
+  }
+
+  private void playGame(ServerSocket serverSocket, ScriptedPlayer player1, ScriptedPlayer player2)
+      throws Exception {
+    InetSocketAddress address =
+        new InetSocketAddress(InetAddress.getLoopbackAddress(), serverSocket.getLocalPort());
+
+    try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+      Future<?> game1 = clients.submit(() -> play(player1, address));
+      players.add(new ServerPlayer(serverSocket.accept()));
+      Future<?> game2 = clients.submit(() -> play(player2, address));
+      players.add(new ServerPlayer(serverSocket.accept()));
+
+      GameManager gameManager = new GameManager(1, GameListener.NO_OP);
+      gameManager.setPlayer1(players.get(0));
+      gameManager.setPlayer2(players.get(1));
+      gameManager.run();
+
+      game1.get();
+      game2.get();
+    }
+  }
+
+  private static void play(Player player, InetSocketAddress address) {
+    try (ClientPlayer clientPlayer = new ClientPlayer(player, address)) {
+      clientPlayer.play();
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  /**
+   * A server socket accepting the {@link CountingSocket}s.
+   */
+  private class CountingServerSocket extends ServerSocket {
+
+    CountingServerSocket() throws IOException {
+      super(0);
+    }
+
+    @Override
+    public Socket accept() throws IOException {
+      CountingSocket socket = new CountingSocket();
+      implAccept(socket);
+      sockets.add(socket);
+      return socket;
+    }
+  }
+
+  /**
+   * A socket counting the writes to the connection. It also checks that no server player has any
+   * frame queued whenever the server is about to block reading from the connection.
+   */
+  private class CountingSocket extends Socket {
+
+    private int writes;
+
+    @Override
+    public OutputStream getOutputStream() throws IOException {
+      return new FilterOutputStream(super.getOutputStream()) {
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+          writes++;
+          out.write(b, off, len);
+        }
+      };
+    }
+
+    @Override
+    public InputStream getInputStream() throws IOException {
+      return new FilterInputStream(super.getInputStream()) {
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+          for (ServerPlayer player : players) {
+            assertEquals(0, player.pendingBytes(), "Frames queued while blocking");
+          }
+          return super.read(b, off, len);
+        }
+      };
+    }
+  }
+
+  /**
+   * A player placing the markers in the given order and recording everything it receives.
+   */
+  private static class ScriptedPlayer implements Player {
+
+    private final String name;
+    private final Deque<Position> moves;
+    private final List<BoardState> boards = new ArrayList<>();
+    private final List<BoardState> boardsToMove = new ArrayList<>();
+    private final List<Position> rejected = new ArrayList<>();
+    private PlayerGameInfo gameInfo;
+    private PlayersResult result;
+
+    ScriptedPlayer(String name, Position... moves) {
+      this.name = name;
+      this.moves = new ArrayDeque<>(List.of(moves));
+    }
+
+    @Override
+    public String getName() {
+      return name;
+    }
+
+    @Override
+    public void gameStarted(PlayerGameInfo gameInfo) {
+      this.gameInfo = gameInfo;
+    }
+
+    @Override
+    public void waitOpponentsMove(BoardState boardState) {
+      boards.add(boardState);
+    }
+
+    @Override
+    public Position placeMarker(BoardState boardState) {
+      boards.add(boardState);
+      boardsToMove.add(boardState);
+      return moves.removeFirst();
+    }
+
+    @Override
+    public void placementAccepted(Position position, BoardState boardState) {
+      boards.add(boardState);
+    }
+
+    @Override
+    public void placementRejected(Position position, String reason) {
+      rejected.add(position);
+    }
+
+    @Override
+    public void gameEnded(BoardState boardState, PlayersResult result) {
+      boards.add(boardState);
+      this.result = result;
+    }
+  }
+}
@@ -4,6 +4,7 @@ import static bakeit.club.tictactoe.game.Marker.EMPTY;
 import static bakeit.club.tictactoe.game.Marker.O;
 import static bakeit.club.tictactoe.game.Marker.X;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import bakeit.club.tictactoe.game.BoardState;
 import bakeit.club.tictactoe.game.Marker;
@@ -81,7 +82,7 @@ class ServerPlayerTest {
   @Test
   @Timeout(5)
   void playTheGame() {
-    BoardState initialBoardState = new BoardState(EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY,
+    BoardState initialBoardState = BoardState.of(EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY,
         EMPTY, EMPTY, EMPTY);
 
     mock.send(new JoinGame("John"));
@@ -114,7 +115,7 @@ class ServerPlayerTest {
       MakeMove makeMove = (MakeMove) m;
       return new Move(new Position(1, 2), makeMove.token());
     });
-    BoardState finalBoardState = new BoardState(EMPTY, X, X, O, O, O, X, X, EMPTY);
+    BoardState finalBoardState = BoardState.of(EMPTY, X, X, O, O, O, X, X, EMPTY);
     mock.expect(new MoveAccepted(new Position(1, 2), finalBoardState));
     mock.expect(new GameEnded(PlayersResult.VICTORY, finalBoardState));
     mock.start();
@@ -137,6 +138,25 @@ class ServerPlayerTest {
     cut.gameEnded(finalBoardState, PlayersResult.VICTORY);
   }
 
+  @Test
+  @Timeout(5)
+  void invalidTokensReportedBeforeClose() throws Exception {
+    BoardState boardState = BoardState.empty();
+
+    mock.send(new JoinGame("John"));
+    mock.expect(new GameStarted(Marker.X, "Filip"));
+    mock.react(m -> new Move(new Position(1, 1), -1));
+    mock.expect(new InvalidMove(new Position(1, 1), X, "The returned token -1 is invalid."));
+    mock.react(m -> new Move(new Position(1, 1), -2));
+    mock.expect(new InvalidMove(new Position(1, 1), X, "The returned token -2 is invalid."));
+    mock.start();
+
+    cut.readName();
+    cut.gameStarted(new PlayerGameInfo(Marker.X, "Filip"));
+
+    assertThrows(IllegalStateException.class, () -> cut.placeMarker(boardState));
+    cut.close();
+  }
 }
 
 class RemotePlayerMock implements AutoCloseable {